@@ -13,6 +13,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 /**
  * This class is used for creating and modify leather armor very easily. <br>
@@ -96,6 +97,18 @@ public class ArmorBuilder {
         return this;
     }
 
+    /**
+     * Applies the name and lore of a template, rendered with the values of a resolver, e.g. those of a player.
+     *
+     * @param template The template. Cannot be null.
+     * @param resolver Resolves the value of a placeholder by its name. Cannot be null.
+     * @return The modified {@code ArmorBuilder}
+     */
+    public ArmorBuilder text(@NotNull ItemTextTemplate template, @NotNull Function<String, String> resolver) {
+        template.applyTo(this.armorMeta, resolver);
+        return this;
+    }
+
     /**
      * Applies an enchantment with a certain level to the {@code ItemStack}. <br>
      * Note that only the vanilla levels work.
@@ -307,6 +320,15 @@ public class ArmorBuilder {
         return this.itemStack;
     }
 
+    /**
+     * Compiles the item into a template which can be copied cheaply, see {@link ItemTemplate}.
+     *
+     * @return The template
+     */
+    public ItemTemplate compile() {
+        return ItemTemplate.compile(this);
+    }
+
     private boolean isAValidMaterial(Material material) {
         return ((material == Material.LEATHER_BOOTS) || (material == Material.LEATHER_CHESTPLATE)
                 || (material == Material.LEATHER_HELMET) || (material == Material.LEATHER_LEGGINGS));
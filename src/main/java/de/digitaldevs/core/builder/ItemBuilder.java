@@ -11,6 +11,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 /**
  * This class is used for creating items very easily and allows you to modify an existing item.
@@ -108,6 +109,18 @@ public class ItemBuilder {
         return this;
     }
 
+    /**
+     * Applies the name and lore of a template, rendered with the values of a resolver, e.g. those of a player.
+     *
+     * @param template The template. Cannot be null.
+     * @param resolver Resolves the value of a placeholder by its name. Cannot be null.
+     * @return The modified {@code ItemBuilder}
+     */
+    public ItemBuilder text(@NotNull ItemTextTemplate template, @NotNull Function<String, String> resolver) {
+        template.applyTo(this.itemMeta, resolver);
+        return this;
+    }
+
     /**
      * Applies an enchantment with a certain level to the {@code ItemStack}. <br>
      * Note that only the vanilla levels work.
@@ -319,4 +332,13 @@ public class ItemBuilder {
         return this.itemStack;
     }
 
+    /**
+     * Compiles the item into a template which can be copied cheaply, see {@link ItemTemplate}.
+     *
+     * @return The template
+     */
+    public ItemTemplate compile() {
+        return ItemTemplate.compile(this);
+    }
+
 }
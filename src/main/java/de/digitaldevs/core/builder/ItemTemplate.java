@@ -0,0 +1,99 @@
+package de.digitaldevs.core.builder;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Function;
+
+/**
+ * An item which was built once and can be copied cheaply afterwards. <br>
+ * The template keeps a frozen prototype of the item which is never handed out. Every call of {@link #create()} clones
+ * the prototype, so the name, lore, flags and enchantments are not applied again.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ * @see ItemBuilder#compile()
+ * @see ItemTemplateCache
+ */
+public final class ItemTemplate {
+
+    private final ItemStack prototype;
+
+    private ItemTemplate(ItemStack prototype) {
+        this.prototype = prototype;
+    }
+
+    /**
+     * Compiles a template from an existing item. Later changes to the item do not affect the template.
+     *
+     * @param itemStack The item. Cannot be null.
+     * @return The template
+     */
+    public static ItemTemplate of(@NotNull ItemStack itemStack) {
+        return new ItemTemplate(itemStack.clone());
+    }
+
+    /**
+     * Compiles a template from an {@code ItemBuilder}. Later changes to the builder do not affect the template.
+     *
+     * @param builder The builder. Cannot be null.
+     * @return The template
+     */
+    public static ItemTemplate compile(@NotNull ItemBuilder builder) {
+        return of(builder.build());
+    }
+
+    /**
+     * Compiles a template from an {@code ArmorBuilder}. Later changes to the builder do not affect the template.
+     *
+     * @param builder The builder. Cannot be null.
+     * @return The template
+     */
+    public static ItemTemplate compile(@NotNull ArmorBuilder builder) {
+        return of(builder.build());
+    }
+
+    /**
+     * Creates a copy of the item.
+     *
+     * @return A new {@code ItemStack} which can be modified freely
+     */
+    public ItemStack create() {
+        return this.prototype.clone();
+    }
+
+    /**
+     * Creates a copy of the item with another amount.
+     *
+     * @param amount How much items the {@code ItemStack} should contain.
+     * @return A new {@code ItemStack} which can be modified freely
+     */
+    public ItemStack create(int amount) {
+        ItemStack itemStack = this.prototype.clone();
+        itemStack.setAmount(amount);
+        return itemStack;
+    }
+
+    /**
+     * Creates a copy of the item with the name and lore of a template, e.g. for a single player.
+     *
+     * @param text     The template of the name and lore. Cannot be null.
+     * @param resolver Resolves the value of a placeholder by its name. Cannot be null.
+     * @return A new {@code ItemStack} which can be modified freely
+     */
+    public ItemStack create(@NotNull ItemTextTemplate text, @NotNull Function<String, String> resolver) {
+        return text.applyTo(this.prototype.clone(), resolver);
+    }
+
+    /**
+     * Gets the material of the item.
+     *
+     * @return The material
+     */
+    public Material getType() {
+        return this.prototype.getType();
+    }
+
+}
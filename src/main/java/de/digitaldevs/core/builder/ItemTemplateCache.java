@@ -0,0 +1,126 @@
+package de.digitaldevs.core.builder;
+
+import lombok.Getter;
+import org.apache.commons.lang.Validate;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A size-bounded cache of {@link ItemTemplate}s. <br>
+ * Items which are shown very often, e.g. the items of a menu, are built once per key and copied on every further
+ * request. Once the cache is full, the template which was not used for the longest time is dropped.
+ *
+ * @param <K> The type of the keys
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ */
+public class ItemTemplateCache<K> {
+
+    private final Map<K, ItemTemplate> templates;
+    @Getter private int maxSize;
+    @Getter private long hits;
+    @Getter private long misses;
+    @Getter private long evictions;
+
+    /**
+     * Instantiates a new {@code ItemTemplateCache}.
+     *
+     * @param maxSize The maximum amount of cached templates
+     */
+    public ItemTemplateCache(int maxSize) {
+        Validate.isTrue(maxSize > 0, "The cache must hold at least one template");
+        this.maxSize = maxSize;
+        this.templates = new LinkedHashMap<K, ItemTemplate>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, ItemTemplate> eldest) {
+                if (this.size() <= ItemTemplateCache.this.maxSize) return false;
+                ItemTemplateCache.this.evictions++;
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Gets the template of a key. If no template is cached for the key, it is compiled and cached.
+     *
+     * @param key      The key. Cannot be null.
+     * @param compiler Compiles the template if it is not cached, e.g. {@code key -> new ItemBuilder(...).compile()}. Cannot be null.
+     * @return The template
+     */
+    public synchronized ItemTemplate get(@NotNull K key, @NotNull Function<K, ItemTemplate> compiler) {
+        ItemTemplate template = this.templates.get(key);
+        if (template != null) {
+            this.hits++;
+            return template;
+        }
+        this.misses++;
+        template = compiler.apply(key);
+        this.templates.put(key, template);
+        return template;
+    }
+
+    /**
+     * Creates a copy of the item of a key. If no template is cached for the key, it is compiled and cached.
+     *
+     * @param key      The key. Cannot be null.
+     * @param compiler Compiles the template if it is not cached. Cannot be null.
+     * @return A new {@code ItemStack} which can be modified freely
+     */
+    public ItemStack create(@NotNull K key, @NotNull Function<K, ItemTemplate> compiler) {
+        return this.get(key, compiler).create();
+    }
+
+    /**
+     * Removes the template of a key, e.g. after the item has changed.
+     *
+     * @param key The key
+     */
+    public synchronized void invalidate(K key) {
+        this.templates.remove(key);
+    }
+
+    /**
+     * Changes the maximum amount of cached templates. Templates which exceed the new size are dropped on the next insertion.
+     *
+     * @param maxSize The maximum amount of cached templates
+     */
+    public synchronized void setMaxSize(int maxSize) {
+        Validate.isTrue(maxSize > 0, "The cache must hold at least one template");
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the amount of cached templates.
+     *
+     * @return The size of the cache
+     */
+    public synchronized int size() {
+        return this.templates.size();
+    }
+
+    /**
+     * Gets the ratio of requests which were answered by a cached template.
+     *
+     * @return The hit rate between {@code 0} and {@code 1}
+     */
+    public synchronized double getHitRate() {
+        long requests = this.hits + this.misses;
+        return requests == 0 ? 0D : (double) this.hits / requests;
+    }
+
+    /**
+     * Removes every template and resets the statistics.
+     */
+    public synchronized void clear() {
+        this.templates.clear();
+        this.hits = 0;
+        this.misses = 0;
+        this.evictions = 0;
+    }
+
+}
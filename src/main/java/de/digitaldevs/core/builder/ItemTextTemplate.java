@@ -0,0 +1,119 @@
+package de.digitaldevs.core.builder;
+
+import de.digitaldevs.core.placeholder.PlaceholderTemplate;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The name and lore of an item which contain placeholders like {@code {kills}}. <br>
+ * The texts are parsed once into literal and placeholder segments, see {@link PlaceholderTemplate}. Rendering for a
+ * player only appends the segments to a buffer which is reused for every line, lines without placeholders are not
+ * rendered at all. The buffers make a template usable from one thread at a time, usually the main thread.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ * @see ItemBuilder#text(ItemTextTemplate, Function)
+ * @see ArmorBuilder#text(ItemTextTemplate, Function)
+ */
+public class ItemTextTemplate {
+
+    private final PlaceholderTemplate name;
+    private final PlaceholderTemplate[] lore;
+    private final StringBuilder buffer = new StringBuilder(64);
+    private final List<String> loreBuffer;
+
+    /**
+     * Instantiates a new {@code ItemTextTemplate}.
+     *
+     * @param name The name of the item. Can be null to keep the name.
+     * @param lore The lines of the lore. Each String represents a new line. Cannot be null.
+     */
+    public ItemTextTemplate(String name, @NotNull String... lore) {
+        this(name, Arrays.asList(lore));
+    }
+
+    /**
+     * Instantiates a new {@code ItemTextTemplate}.
+     *
+     * @param name The name of the item. Can be null to keep the name.
+     * @param lore The lines of the lore. Each String represents a new line. Can be null to keep the lore.
+     */
+    public ItemTextTemplate(String name, List<String> lore) {
+        this.name = name == null ? null : new PlaceholderTemplate(name);
+        if (lore == null) {
+            this.lore = null;
+            this.loreBuffer = null;
+            return;
+        }
+        this.lore = new PlaceholderTemplate[lore.size()];
+        for (int index = 0; index < this.lore.length; index++) this.lore[index] = new PlaceholderTemplate(lore.get(index));
+        this.loreBuffer = new ArrayList<>(this.lore.length);
+    }
+
+    /**
+     * Renders the name.
+     *
+     * @param resolver Resolves the value of a placeholder by its name. If it returns {@code null}, the placeholder is kept.
+     * @return The rendered name or {@code null} if the template has no name
+     */
+    public String renderName(@NotNull Function<String, String> resolver) {
+        return this.name == null ? null : this.render(this.name, resolver);
+    }
+
+    /**
+     * Renders the lore.
+     *
+     * @param resolver Resolves the value of a placeholder by its name. If it returns {@code null}, the placeholder is kept.
+     * @return A new list of the rendered lines or {@code null} if the template has no lore
+     */
+    public List<String> renderLore(@NotNull Function<String, String> resolver) {
+        if (this.lore == null) return null;
+        return new ArrayList<>(this.fillLore(resolver));
+    }
+
+    /**
+     * Renders the name and lore into the meta of an item. The meta copies the lore, so the list of rendered lines is
+     * reused for the next rendering.
+     *
+     * @param itemMeta The meta. Cannot be null.
+     * @param resolver Resolves the value of a placeholder by its name. If it returns {@code null}, the placeholder is kept.
+     */
+    public void applyTo(@NotNull ItemMeta itemMeta, @NotNull Function<String, String> resolver) {
+        if (this.name != null) itemMeta.setDisplayName(this.render(this.name, resolver));
+        if (this.lore != null) itemMeta.setLore(this.fillLore(resolver));
+    }
+
+    /**
+     * Renders the name and lore into an item.
+     *
+     * @param itemStack The item. Cannot be null.
+     * @param resolver  Resolves the value of a placeholder by its name. If it returns {@code null}, the placeholder is kept.
+     * @return The item
+     */
+    public ItemStack applyTo(@NotNull ItemStack itemStack, @NotNull Function<String, String> resolver) {
+        ItemMeta itemMeta = itemStack.getItemMeta();
+        this.applyTo(itemMeta, resolver);
+        itemStack.setItemMeta(itemMeta);
+        return itemStack;
+    }
+
+    private List<String> fillLore(Function<String, String> resolver) {
+        this.loreBuffer.clear();
+        for (PlaceholderTemplate line : this.lore) this.loreBuffer.add(this.render(line, resolver));
+        return this.loreBuffer;
+    }
+
+    private String render(PlaceholderTemplate template, Function<String, String> resolver) {
+        if (template.getPlaceholders().isEmpty()) return template.toString();
+        this.buffer.setLength(0);
+        return template.render(resolver, this.buffer).toString();
+    }
+
+}
@@ -0,0 +1,146 @@
+package de.digitaldevs.core.placeholder;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A text which contains named placeholders like {@code {coins}}. <br>
+ * The text is parsed once into literal and placeholder segments. Rendering only appends the segments to a buffer,
+ * so no intermediate strings are created.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ */
+public class PlaceholderTemplate {
+
+    private final String source;
+    private final String[] segments;
+    private final boolean[] placeholders;
+    private final Set<String> placeholderNames;
+    private final int literalLength;
+
+    /**
+     * Parses a text. A placeholder is a name of letters, digits, {@code _}, {@code -} or {@code .} in curly braces.
+     * Braces which do not form a placeholder are kept as they are.
+     *
+     * @param source The text. Cannot be null.
+     */
+    public PlaceholderTemplate(@NotNull String source) {
+        this.source = source;
+
+        List<String> segments = new ArrayList<>();
+        List<Boolean> placeholders = new ArrayList<>();
+        Set<String> placeholderNames = new LinkedHashSet<>();
+        int literalLength = 0;
+        int literalStart = 0;
+        int index = 0;
+        while (index < source.length()) {
+            int end = source.charAt(index) == '{' ? this.placeholderEnd(source, index) : -1;
+            if (end < 0) {
+                index++;
+                continue;
+            }
+
+            if (index > literalStart) {
+                segments.add(source.substring(literalStart, index));
+                placeholders.add(false);
+                literalLength += index - literalStart;
+            }
+            String name = source.substring(index + 1, end);
+            segments.add(name);
+            placeholders.add(true);
+            placeholderNames.add(name);
+            index = end + 1;
+            literalStart = index;
+        }
+        if (literalStart < source.length()) {
+            segments.add(source.substring(literalStart));
+            placeholders.add(false);
+            literalLength += source.length() - literalStart;
+        }
+
+        this.segments = segments.toArray(new String[0]);
+        this.placeholders = new boolean[placeholders.size()];
+        for (int segment = 0; segment < this.placeholders.length; segment++) this.placeholders[segment] = placeholders.get(segment);
+        this.placeholderNames = Collections.unmodifiableSet(placeholderNames);
+        this.literalLength = literalLength;
+    }
+
+    /**
+     * Gets the names of all placeholders in this template.
+     *
+     * @return An unmodifiable set of the names in order of their first appearance
+     */
+    public Set<String> getPlaceholders() {
+        return this.placeholderNames;
+    }
+
+    /**
+     * Checks whether this template contains a placeholder.
+     *
+     * @param name The name of the placeholder
+     * @return {@code true} if the placeholder is contained
+     */
+    public boolean dependsOn(String name) {
+        return this.placeholderNames.contains(name);
+    }
+
+    /**
+     * Renders the template into a new String.
+     *
+     * @param resolver Resolves the value of a placeholder by its name. If it returns {@code null}, the placeholder is kept.
+     * @return The rendered text. Returns the source itself if the template does not contain any placeholders.
+     */
+    public String render(@NotNull Function<String, String> resolver) {
+        if (this.placeholderNames.isEmpty()) return this.source;
+        return this.render(resolver, new StringBuilder(this.literalLength + 16 * this.placeholderNames.size())).toString();
+    }
+
+    /**
+     * Renders the template into a buffer. The buffer is not cleared beforehand.
+     *
+     * @param resolver Resolves the value of a placeholder by its name. If it returns {@code null}, the placeholder is kept.
+     * @param buffer   The buffer to append to. Cannot be null.
+     * @return The buffer
+     */
+    public StringBuilder render(@NotNull Function<String, String> resolver, @NotNull StringBuilder buffer) {
+        for (int segment = 0; segment < this.segments.length; segment++) {
+            if (!this.placeholders[segment]) {
+                buffer.append(this.segments[segment]);
+                continue;
+            }
+
+            String value = resolver.apply(this.segments[segment]);
+            if (value != null) buffer.append(value);
+            else buffer.append('{').append(this.segments[segment]).append('}');
+        }
+        return buffer;
+    }
+
+    /**
+     * Gets the text this template was parsed from.
+     *
+     * @return The source text
+     */
+    @Override
+    public String toString() {
+        return this.source;
+    }
+
+    private int placeholderEnd(String source, int start) {
+        for (int index = start + 1; index < source.length(); index++) {
+            char character = source.charAt(index);
+            if (character == '}') return index > start + 1 ? index : -1;
+            if (!Character.isLetterOrDigit(character) && character != '_' && character != '-' && character != '.') return -1;
+        }
+        return -1;
+    }
+
+}
@@ -0,0 +1,140 @@
+package de.digitaldevs.core.reflection;
+
+import de.digitaldevs.core.reflection.types.PackageType;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class is an util for creating and sending {@code net.minecraft.server} packets during runtime. <br>
+ * All classes, fields and methods are looked up once and cached afterwards.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ */
+public class PacketAccessor {
+
+    private final String serverVersion;
+    private final Map<String, Class<?>> classes = new HashMap<>();
+    private final Map<Class<?>, Map<String, Field>> fields = new HashMap<>();
+    private final Map<Class<?>, Constructor<?>> constructors = new HashMap<>();
+    private Method getHandleMethod;
+    private Field playerConnectionField;
+    private Method sendPacketMethod;
+
+    /**
+     * Instantiates a new {@code PacketAccessor} for the version the server is running on.
+     */
+    public PacketAccessor() {
+        this(Bukkit.getServer().getClass().getPackage().getName().split("\\.")[3]);
+    }
+
+    /**
+     * Instantiates a new {@code PacketAccessor} for a specific server version.
+     *
+     * @param serverVersion The version the server is running on (e.g. {@code v1_8_R3}). Cannot be null.
+     */
+    public PacketAccessor(@NotNull String serverVersion) {
+        this.serverVersion = serverVersion;
+    }
+
+    /**
+     * Gets the {@code net.minecraft.server} class with the specific name.
+     *
+     * @param clazzName The name of the class. Nested classes are separated by {@code $}. Cannot be null.
+     * @return The class or {@code null} if no class with the given name was found.
+     */
+    public Class<?> getNMSClazz(@NotNull String clazzName) {
+        return this.classes.computeIfAbsent(clazzName, name -> ClassAccessor.accessNMSClazz(name, this.serverVersion));
+    }
+
+    /**
+     * Creates a new instance of a {@code net.minecraft.server} class using its no-args constructor.
+     *
+     * @param clazzName The name of the class. Cannot be null.
+     * @return The new instance or {@code null} if something went wrong.
+     */
+    public Object newInstance(@NotNull String clazzName) {
+        try {
+            Class<?> clazz = this.getNMSClazz(clazzName);
+            Constructor<?> constructor = this.constructors.get(clazz);
+            if (constructor == null) {
+                constructor = clazz.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                this.constructors.put(clazz, constructor);
+            }
+            return constructor.newInstance();
+        } catch (Exception exception) {
+            exception.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Gets a constant of a {@code net.minecraft.server} enum.
+     *
+     * @param clazzName    The name of the enum. Cannot be null.
+     * @param constantName The name of the constant. Cannot be null.
+     * @return The constant or {@code null} if something went wrong.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Object getEnumConstant(@NotNull String clazzName, @NotNull String constantName) {
+        try {
+            return Enum.valueOf((Class<? extends Enum>) this.getNMSClazz(clazzName), constantName);
+        } catch (Exception exception) {
+            exception.printStackTrace();
+        }
+        return null;
+    }
+
+    /**
+     * Sets a new value into a field of an object. Other than {@link FieldAccessor#set(Object, String, Object)} the
+     * field is looked up only once per class.
+     *
+     * @param toModify  The object where a field should be modified. Cannot be null.
+     * @param fieldName The name of the field which should be modified. Cannot be null.
+     * @param toSet     The new value the field should hold.
+     */
+    public void set(@NotNull Object toModify, @NotNull String fieldName, Object toSet) {
+        try {
+            Field field = this.fields.computeIfAbsent(toModify.getClass(), clazz -> new HashMap<>()).get(fieldName);
+            if (field == null) {
+                field = toModify.getClass().getDeclaredField(fieldName);
+                field.setAccessible(true);
+                this.fields.get(toModify.getClass()).put(fieldName, field);
+            }
+            field.set(toModify, toSet);
+        } catch (Exception exception) {
+            exception.printStackTrace();
+        }
+    }
+
+    /**
+     * Sends a packet to a player.
+     *
+     * @param player The player who should receive the packet. Cannot be null.
+     * @param packet The {@code net.minecraft.server} packet. Cannot be null.
+     */
+    public void sendPacket(@NotNull Player player, @NotNull Object packet) {
+        try {
+            if (this.sendPacketMethod == null) {
+                Class<?> craftPlayerClazz = ClassAccessor.accessCraftBukkitClazzInPackage(PackageType.ENTITY, "CraftPlayer", this.serverVersion);
+                this.getHandleMethod = craftPlayerClazz.getMethod("getHandle");
+                this.playerConnectionField = this.getNMSClazz("EntityPlayer").getField("playerConnection");
+                this.sendPacketMethod = this.getNMSClazz("PlayerConnection").getMethod("sendPacket", this.getNMSClazz("Packet"));
+            }
+            Object playerConnection = this.playerConnectionField.get(this.getHandleMethod.invoke(player));
+            this.sendPacketMethod.invoke(playerConnection, packet);
+        } catch (Exception exception) {
+            exception.printStackTrace();
+        }
+    }
+
+}
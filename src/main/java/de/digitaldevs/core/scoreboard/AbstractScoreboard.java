@@ -24,8 +24,18 @@ public abstract class AbstractScoreboard {
 
     @Getter
     private final List<ScoreboardTeam> teams = new ArrayList<>();
-    protected List<UUID> activePlayers = new ArrayList<>();
-    private final Map<Scoreboard, List<String>> previousLines = new HashMap<>();
+    protected Set<UUID> activePlayers = new LinkedHashSet<>();
+    private final Map<UUID, ScoreboardTeam> teamsByEntity = new HashMap<>();
+    private final Map<String, ScoreboardTeam> teamsByName = new HashMap<>();
+    @Getter private final RenderStateStore renderStates = new RenderStateStore();
+    @Getter private final ScoreboardStats stats = new ScoreboardStats(this);
+    private final Map<DisplaySlot, ScoreObjective> objectives = new EnumMap<>(DisplaySlot.class);
+    private TitleAnimator titleAnimator;
+    private ScoreboardUpdater updater;
+
+    protected AbstractScoreboard() {
+        ScoreboardRegistry.register(this);
+    }
 
     /**
      * Add a player to the scoreboard
@@ -34,6 +44,7 @@ public abstract class AbstractScoreboard {
      */
     public void addPlayer(Player player) {
         this.activePlayers.add(player.getUniqueId());
+        this.syncTeamMembership(player);
     }
 
     /**
@@ -44,12 +55,10 @@ public abstract class AbstractScoreboard {
      */
     public void removePlayer(Player player) {
         this.activePlayers.remove(player.getUniqueId());
-        Validate.notNull(Bukkit.getScoreboardManager());
-        player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
+        this.resetScoreboard(player);
 
-        teams.forEach(team -> {
-            if (team.isOnTeam(player.getUniqueId())) team.removePlayer(player);
-        });
+        ScoreboardTeam team = this.teamsByEntity.get(player.getUniqueId());
+        if (team != null) team.removePlayer(player);
     }
 
     /**
@@ -59,9 +68,17 @@ public abstract class AbstractScoreboard {
      * @return The JScoreboardPlayerTeam found, if any. Will return null if no team exists
      */
     public Optional<ScoreboardTeam> findTeam(String name) {
-        return teams.stream()
-                .filter(team -> ChatColor.stripColor(team.getName()).equalsIgnoreCase(ChatColor.stripColor(name)))
-                .findAny();
+        return Optional.ofNullable(this.teamsByName.get(normalizeTeamName(name)));
+    }
+
+    /**
+     * Find the team an entity is a member of
+     *
+     * @param uuid The UUID of the entity
+     * @return The team or {@code null} if the entity is not a member of any team
+     */
+    public ScoreboardTeam getTeam(UUID uuid) {
+        return this.teamsByEntity.get(uuid);
     }
 
     /**
@@ -74,20 +91,83 @@ public abstract class AbstractScoreboard {
      * @throws TeamNameTooLongException If the team's name is longer than 16 characters
      */
     public ScoreboardTeam createTeam(String name, String displayName) throws DuplicateTeamException, TeamNameTooLongException {
-        for (ScoreboardTeam team : this.teams) {
-            if (ChatColor.stripColor(team.getName()).equalsIgnoreCase(ChatColor.stripColor(name))) {
-                throw new DuplicateTeamException(name);
-            }
-        }
+        String normalizedName = normalizeTeamName(name);
+        if (this.teamsByName.containsKey(normalizedName)) throw new DuplicateTeamException(name);
 
         if (name.length() > 16) throw new TeamNameTooLongException(name);
 
-        ScoreboardTeam team = new ScoreboardTeam(name, displayName, this);
+        ScoreboardTeam team = new ScoreboardTeam(name, normalizedName, displayName, this);
         team.refresh();
         this.teams.add(team);
+        this.teamsByName.put(normalizedName, team);
         return team;
     }
 
+    /**
+     * Create an objective which is displayed in the tab list or below the names of players.
+     * An existing objective of the same slot is replaced.
+     *
+     * @param slot        {@link DisplaySlot#PLAYER_LIST} or {@link DisplaySlot#BELOW_NAME}
+     * @param displayName The display name of the objective
+     * @return The created objective
+     * @throws IllegalArgumentException If the slot is {@link DisplaySlot#SIDEBAR}, which is used by the lines of this scoreboard
+     */
+    public ScoreObjective createObjective(DisplaySlot slot, String displayName) {
+        Validate.isTrue(slot != DisplaySlot.SIDEBAR, "The sidebar is used by the lines of the scoreboard");
+        this.removeObjective(slot);
+
+        ScoreObjective objective = new ScoreObjective(slot, slot == DisplaySlot.PLAYER_LIST ? "playerlist" : "belowname", displayName, this);
+        this.objectives.put(slot, objective);
+        objective.flush();
+        return objective;
+    }
+
+    /**
+     * Get the objective of a display slot
+     *
+     * @param slot The display slot
+     * @return The objective or {@code null} if no objective was created for the slot
+     */
+    public ScoreObjective getObjective(DisplaySlot slot) {
+        return this.objectives.get(slot);
+    }
+
+    /**
+     * Remove the objective of a display slot from the scoreboard
+     *
+     * @param slot The display slot
+     */
+    public void removeObjective(DisplaySlot slot) {
+        ScoreObjective objective = this.objectives.remove(slot);
+        if (objective != null) objective.destroy();
+    }
+
+    /**
+     * Send the changed scores of all objectives, see {@link ScoreObjective#flush()}.
+     * This is done automatically at the start of every update and flush of the built-in scoreboards, including the
+     * auto flush, the staggered refresh and the async updates of a {@link PersonalScoreboard}.
+     */
+    public void flushObjectives() {
+        if (this.objectives.isEmpty()) return;
+        for (ScoreObjective objective : this.objectives.values()) {
+            if (objective.getPendingCount() > 0) objective.flush();
+        }
+    }
+
+    /**
+     * Applies the scores of an entry again after they were reset on a Bukkit scoreboard.
+     * Bukkit can only reset an entry on all objectives at once, so the objectives which still contain the entry restore it.
+     *
+     * @param scoreboard The Bukkit scoreboard
+     * @param entry      The entry whose scores were reset
+     * @param source     The objective which has removed the entry
+     */
+    protected void restoreScores(Scoreboard scoreboard, String entry, ScoreObjective source) {
+        for (ScoreObjective objective : this.objectives.values()) {
+            if (objective != source) objective.restore(scoreboard, entry);
+        }
+    }
+
     /**
      * Remove a team from the scoreboard
      *
@@ -97,6 +177,8 @@ public abstract class AbstractScoreboard {
         if (team.getScoreboard() != this) return;
         team.destroy();
         this.teams.remove(team);
+        this.teamsByName.remove(team.getNormalizedName(), team);
+        for (UUID uuid : team.getEntities()) this.unindexEntity(uuid, team);
     }
 
     /**
@@ -104,114 +186,326 @@ public abstract class AbstractScoreboard {
      * This method should be called inside the {@code onDisable()}-Method.
      */
     public void destroy() {
+        if (this.titleAnimator != null) this.titleAnimator.stopAnimating(this);
+        if (this.updater != null) this.updater.unregister(this);
         for (UUID playerUUID : activePlayers) {
             Player player = Bukkit.getPlayer(playerUUID);
-            if (player != null) {
-                Validate.notNull(Bukkit.getScoreboardManager());
-                player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
-            }
+            if (player != null) this.resetScoreboard(player);
         }
         for (ScoreboardTeam team : teams) team.destroy();
+        for (ScoreObjective objective : this.objectives.values()) objective.destroy();
+        this.objectives.clear();
         this.activePlayers.clear();
         this.teams.clear();
+        this.teamsByEntity.clear();
+        this.teamsByName.clear();
+        this.renderStates.clear();
+        this.stats.stopDump();
+        ScoreboardRegistry.unregister(this);
     }
 
     /**
-     * Update a scoreboard with a list of lines
-     * These lines must be in reverse order!
+     * Gets the animator which currently animates the title of this scoreboard.
+     *
+     * @return The animator or {@code null} if the title is not animated
+     */
+    protected TitleAnimator getTitleAnimator() {
+        return this.titleAnimator;
+    }
+
+    protected void setTitleAnimator(TitleAnimator titleAnimator) {
+        this.titleAnimator = titleAnimator;
+    }
+
+    /**
+     * Gets the updater which currently updates this scoreboard periodically.
+     *
+     * @return The updater or {@code null} if the scoreboard is not updated periodically
+     */
+    protected ScoreboardUpdater getUpdater() {
+        return this.updater;
+    }
+
+    protected void setUpdater(ScoreboardUpdater updater) {
+        this.updater = updater;
+    }
+
+    /**
+     * Drops the state of a player who has left the server without sending anything to the player.
+     * The team memberships are kept, they are applied again once the player is added again. The scores of the player
+     * are removed from every objective, the removal is sent on the next flush.
+     *
+     * @param playerUUID The UUID of the player
+     * @return {@code true} if this scoreboard held any state of the player
+     * @see ScoreboardRegistry
+     */
+    protected boolean evictPlayer(UUID playerUUID) {
+        boolean evicted = this.activePlayers.remove(playerUUID);
+        if (this.objectives.isEmpty()) return evicted;
+
+        Player player = Bukkit.getPlayer(playerUUID);
+        String entry = player != null ? player.getName() : Bukkit.getOfflinePlayer(playerUUID).getName();
+        if (entry == null) return evicted;
+        for (ScoreObjective objective : this.objectives.values()) {
+            if (objective.getScore(entry) == null) continue;
+            objective.removeScore(entry);
+            evicted = true;
+        }
+        return evicted;
+    }
+
+    /**
+     * Collects the UUIDs of all players whose state is held by this scoreboard.
+     *
+     * @param players The set which the UUIDs are added to
+     */
+    protected void collectTrackedPlayers(Set<UUID> players) {
+        players.addAll(this.activePlayers);
+    }
+
+    /**
+     * Reset a player who leaves this scoreboard to the server's main scoreboard.
+     *
+     * @param player The player who leaves
+     */
+    protected void resetScoreboard(Player player) {
+        Validate.notNull(Bukkit.getScoreboardManager());
+        player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
+    }
+
+    /**
+     * Update the scoreboards of all players. Call this when the scoreboard contents should change in some way.
+     *
+     * @throws LineTooLongException If a line is over 64 characters, this exception is thrown.
+     */
+    public abstract void updateScoreboard() throws LineTooLongException;
+
+    /**
+     * Update a scoreboard with a list of lines.
+     * Only the lines which have changed since the last update are sent to the scoreboard, see {@link SidebarDiff}.
      *
      * @param scoreboard The scoreboard which should be updated.
      * @param lines      The lines which the scoreboard should display.
      * @throws LineTooLongException If a String within the lines array is over 64 characters, this exception is thrown.
      */
     protected void updateScoreboard(Scoreboard scoreboard, List<String> lines) throws LineTooLongException {
-        Objective objective;
+        this.updateScoreboard(scoreboard, this.getTitle(scoreboard), lines);
+    }
 
-        if (scoreboard.getObjective("dummy") == null) objective = scoreboard.registerNewObjective("dummy", "dummy");
-        else objective = scoreboard.getObjective("dummy");
+    /**
+     * Update a scoreboard with a title which was generated beforehand and a list of lines.
+     *
+     * @param scoreboard The scoreboard which should be updated.
+     * @param title      The title which the scoreboard should display. Can be null.
+     * @param lines      The lines which the scoreboard should display.
+     * @throws LineTooLongException If a String within the lines array is over 64 characters, this exception is thrown.
+     */
+    protected void updateScoreboard(Scoreboard scoreboard, String title, List<String> lines) throws LineTooLongException {
+        Objective objective = scoreboard.getObjective("dummy");
+        if (objective == null) objective = scoreboard.registerNewObjective("dummy", "dummy");
         Validate.notNull(objective);
 
-        String title = this.getTitle(scoreboard);
-        if (title == null) title = "";
-        objective.setDisplayName(this.color(title));
+        RenderState state = this.renderStates.getOrCreate(scoreboard);
+        this.applyTitle(objective, state, title);
 
-        if (this.previousLines.containsKey(scoreboard)) {
-            if (this.previousLines.get(scoreboard).equals(lines)) {
-                this.updateTeams(scoreboard);
-                return;
-            }
+        List<String> previous = state.getLines();
+        if (SidebarDiff.isUnchanged(previous, lines)) {
+            this.stats.recordRender(0);
+            this.updateTeams(scoreboard);
+            return;
+        }
 
-            if (this.previousLines.get(scoreboard).size() != lines.size()) {
-                scoreboard.clearSlot(DisplaySlot.SIDEBAR);
-                scoreboard.getEntries().forEach(scoreboard::resetScores);
-                scoreboard.getTeams().forEach(team -> {
-                    if (team.getName().contains("line")) team.unregister();
-                });
+        for (int index = 0; index < lines.size(); index++) {
+            if (lines.get(index).length() > 64) {
+                throw new LineTooLongException("The line is too long! Only 64 characters are supported!");
             }
         }
 
-        this.previousLines.put(scoreboard, lines);
-
-        List<String> reversedLines = new ArrayList<>(lines);
-        Collections.reverse(reversedLines);
+        if (objective.getDisplaySlot() != DisplaySlot.SIDEBAR) objective.setDisplaySlot(DisplaySlot.SIDEBAR);
 
-        objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+        List<SidebarDiff.Change> changes = SidebarDiff.compute(previous, lines);
+        this.stats.recordRender(changes.size());
+        for (SidebarDiff.Change change : changes) {
+            String entry = SidebarEntries.entry(change.getScore());
+            Team team = scoreboard.getTeam(SidebarEntries.teamName(change.getScore()));
 
-        List<String> colorCodeOptions = this.colorOptions(reversedLines.size());
-        int score = 1;
-        for (String entry : reversedLines) {
-            if (entry.length() > 64) {
-                throw new LineTooLongException("The line is too long! Only 64 characters are supported!");
+            switch (change.getType()) {
+                case REMOVE:
+                    scoreboard.resetScores(entry);
+                    if (team != null) team.unregister();
+                    break;
+                case UPDATE:
+                    if (team != null) {
+                        team.setPrefix(this.color(change.getLine()));
+                        break;
+                    }
+                    // The slot got lost in the meantime, so it has to be created again
+                case INSERT:
+                    if (team == null) team = scoreboard.registerNewTeam(SidebarEntries.teamName(change.getScore()));
+                    if (!team.hasEntry(entry)) team.addEntry(entry);
+                    team.setPrefix(this.color(change.getLine()));
+                    objective.getScore(entry).setScore(change.getScore());
+                    break;
             }
-            Team team = scoreboard.getTeam("line" + score);
-            if (team != null) {
-                team.setPrefix(this.color(entry));
-                team.getEntries().forEach(team::removeEntry);
-                team.addEntry(colorCodeOptions.get(score));
-            } else {
-                team = scoreboard.registerNewTeam("line" + score);
-                team.addEntry(colorCodeOptions.get(score));
-                team.setPrefix(this.color(entry));
-                objective.getScore(colorCodeOptions.get(score)).setScore(score);
-            }
-            score++;
         }
 
+        state.setLines(lines);
+
         this.updateTeams(scoreboard);
     }
 
     /**
-     * Update the teams on the scoreboard. Loops over all teams and calls refresh(Scoreboard)
+     * Update a single line of a scoreboard whose amount of lines stays the same.
+     * Callers which render a sidebar line by line record the render in the {@link ScoreboardStats} themselves.
      *
-     * @param scoreboard The Bukkit scoreboard to use
+     * @param scoreboard     The scoreboard which should be updated.
+     * @param index          The index of the line in top-down order.
+     * @param line           The line which should be displayed.
+     * @param translatedLine The line with translated color codes, see {@link #color(String)}.
+     * @return {@code false} if the line could not be updated on its own and the scoreboard has to be updated completely.
+     * @throws LineTooLongException If the line is over 64 characters, this exception is thrown.
      */
-    private void updateTeams(Scoreboard scoreboard) {
-        this.teams.forEach(team -> team.refresh(scoreboard));
+    protected boolean updateLine(Scoreboard scoreboard, int index, String line, String translatedLine) throws LineTooLongException {
+        if (line.length() > 64) throw new LineTooLongException("The line is too long! Only 64 characters are supported!");
+
+        RenderState state = this.renderStates.get(scoreboard);
+        if (state == null || state.getLines() == null || index >= state.getLines().size()) return false;
+
+        Team team = scoreboard.getTeam(SidebarEntries.teamName(state.getLines().size() - index));
+        if (team == null) return false;
+
+        team.setPrefix(translatedLine);
+        state.setLine(index, line);
+        return true;
     }
 
     /**
-     * Generate a list of unique color code combinations to use as scoreboard entries.
-     * This is done to ensure that...
-     * 1. Duplicate lines can be created
-     * 2. The content of a scoreboard line is stored in the team prefix + suffix, rather than the entry itself
+     * Update only the titles of all Bukkit scoreboards of this scoreboard. The lines stay untouched.
+     */
+    public void updateTitle() {
+        for (Scoreboard scoreboard : this.getBukkitScoreboards()) this.updateTitle(scoreboard, this.getTitle(scoreboard));
+    }
+
+    /**
+     * Update only the title of a scoreboard. The lines stay untouched.
      *
-     * @param amountOfLines The amount of lines, and by proxy the amount of color combinations, to be generated
-     * @return The list of unique color combinations
+     * @param scoreboard The scoreboard which should be updated.
+     * @param title      The title which the scoreboard should display. Can be null.
      */
-    private List<String> colorOptions(int amountOfLines) {
-        List<String> colorCodeOptions = new ArrayList<>();
-        for (ChatColor color : ChatColor.values()) {
-            if (color.isFormat()) continue;
-            for (ChatColor secondColor : ChatColor.values()) {
-                if (secondColor.isFormat()) continue;
-                String option = color + " " + secondColor;
-                if (color != secondColor && !colorCodeOptions.contains(option)) {
-                    colorCodeOptions.add(option);
-                    if (colorCodeOptions.size() == amountOfLines) break;
-                }
-            }
+    protected void updateTitle(Scoreboard scoreboard, String title) {
+        Objective objective = scoreboard.getObjective("dummy");
+        if (objective == null) return;
+        this.applyTitle(objective, this.renderStates.getOrCreate(scoreboard), title);
+    }
+
+    /**
+     * Set the display name of the objective if the title differs from the one which was rendered last.
+     *
+     * @param objective The sidebar objective
+     * @param state     The render state of the scoreboard
+     * @param title     The title. Can be null.
+     */
+    private void applyTitle(Objective objective, RenderState state, String title) {
+        if (title == null) title = "";
+        if (title.equals(state.getTitle())) return;
+
+        objective.setDisplayName(this.color(title));
+        state.setTitle(title);
+    }
+
+    /**
+     * Move a team to a new name within the name index.
+     *
+     * @param team           The team which is renamed
+     * @param name           The new name of the team
+     * @param normalizedName The new name in its normalized form, see {@link #normalizeTeamName(String)}
+     * @throws DuplicateTeamException If another team with that name already exists
+     */
+    protected void renameTeam(ScoreboardTeam team, String name, String normalizedName) throws DuplicateTeamException {
+        ScoreboardTeam existing = this.teamsByName.get(normalizedName);
+        if (existing != null && existing != team) throw new DuplicateTeamException(name);
+        if (existing == team) return;
+
+        this.teamsByName.remove(team.getNormalizedName(), team);
+        this.teamsByName.put(normalizedName, team);
+    }
+
+    /**
+     * Normalize a team name for lookups. Color codes are stripped and the name is converted to lower case. <br>
+     * Names without color codes which are already in lower case are returned as they are.
+     *
+     * @param name The name to normalize. Cannot be null.
+     * @return The normalized name
+     */
+    protected static String normalizeTeamName(String name) {
+        String stripped = name.indexOf(ChatColor.COLOR_CHAR) < 0 ? name : ChatColor.stripColor(name);
+        return stripped.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Remember that an entity is a member of a team.
+     *
+     * @param uuid The UUID of the entity
+     * @param team The team the entity was added to
+     */
+    protected void indexEntity(UUID uuid, ScoreboardTeam team) {
+        this.teamsByEntity.put(uuid, team);
+    }
+
+    /**
+     * Forget that an entity is a member of a team.
+     *
+     * @param uuid The UUID of the entity
+     * @param team The team the entity was removed from
+     */
+    protected void unindexEntity(UUID uuid, ScoreboardTeam team) {
+        this.teamsByEntity.remove(uuid, team);
+    }
+
+    /**
+     * Get all Bukkit scoreboards which are rendered by this scoreboard.
+     *
+     * @return The Bukkit scoreboards
+     */
+    protected Collection<Scoreboard> getBukkitScoreboards() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Fans a prepared change of a team out to every viewer of this scoreboard. The update is created once per change,
+     * so the work per viewer is limited to applying it.
+     *
+     * @param team   The team which has changed
+     * @param update The prepared update
+     */
+    protected void broadcastTeamUpdate(ScoreboardTeam team, TeamUpdate update) {
+        this.stats.recordTeamMutation();
+        for (Scoreboard scoreboard : this.getBukkitScoreboards()) team.apply(scoreboard, update);
+    }
+
+    /**
+     * Adds the entry of a player who joins this scoreboard to the team the player is a member of, if any.
+     * This is needed if the player was added to the team while being offline.
+     *
+     * @param player The player who joins
+     */
+    protected void syncTeamMembership(Player player) {
+        ScoreboardTeam team = this.teamsByEntity.get(player.getUniqueId());
+        if (team != null) team.syncEntity(player.getUniqueId());
+    }
+
+    /**
+     * Update the teams on the scoreboard. Every team and every objective is applied completely once per Bukkit
+     * scoreboard, afterwards they propagate their changes on their own.
+     *
+     * @param scoreboard The Bukkit scoreboard to use
+     */
+    private void updateTeams(Scoreboard scoreboard) {
+        for (int index = 0; index < this.teams.size(); index++) this.teams.get(index).sync(scoreboard);
+        if (this.objectives.isEmpty()) return;
+        for (ScoreObjective objective : this.objectives.values()) {
+            if (this.renderStates.getOrCreate(scoreboard).getScores(objective.getName()) == null) objective.apply(scoreboard);
         }
-        return colorCodeOptions;
     }
 
     /**
@@ -221,6 +515,7 @@ public abstract class AbstractScoreboard {
      * @return The formatted String
      */
     protected String color(String string) {
+        if (string.indexOf('&') < 0) return string;
         return ChatColor.translateAlternateColorCodes('&', string);
     }
 
@@ -0,0 +1,72 @@
+package de.digitaldevs.core.scoreboard;
+
+import org.apache.commons.lang.Validate;
+import org.bukkit.ChatColor;
+
+import java.util.List;
+
+/**
+ * A scoreboard title which changes its frame after a fixed amount of ticks. <br>
+ * The color codes of all frames are translated once when the title is created. The title is advanced by a
+ * {@link TitleAnimator}, so one title can be shared by any number of scoreboards.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ */
+public class AnimatedTitle {
+
+    private final String[] frames;
+    private final int interval;
+    private int index;
+    private int ticks;
+
+    /**
+     * Instantiates a new {@code AnimatedTitle}.
+     *
+     * @param interval The amount of ticks each frame is displayed. Must be at least 1.
+     * @param frames   The frames of the title. Uses the ampersand character for color codes. Cannot be empty.
+     */
+    public AnimatedTitle(int interval, String... frames) {
+        Validate.isTrue(interval > 0, "The interval must be at least 1");
+        Validate.isTrue(frames.length > 0, "An animated title needs at least one frame");
+        this.interval = interval;
+        this.frames = new String[frames.length];
+        for (int index = 0; index < frames.length; index++) {
+            this.frames[index] = ChatColor.translateAlternateColorCodes('&', frames[index]);
+        }
+    }
+
+    /**
+     * Instantiates a new {@code AnimatedTitle}.
+     *
+     * @param interval The amount of ticks each frame is displayed. Must be at least 1.
+     * @param frames   The frames of the title. Uses the ampersand character for color codes. Cannot be empty.
+     */
+    public AnimatedTitle(int interval, List<String> frames) {
+        this(interval, frames.toArray(new String[0]));
+    }
+
+    /**
+     * Gets the frame which should be displayed right now.
+     *
+     * @return The translated frame
+     */
+    public String getFrame() {
+        return this.frames[this.index];
+    }
+
+    /**
+     * Advances the title by one tick.
+     *
+     * @return {@code true} if the displayed frame has changed
+     */
+    protected boolean tick() {
+        if (++this.ticks < this.interval) return false;
+        this.ticks = 0;
+        int previous = this.index;
+        this.index = (this.index + 1) % this.frames.length;
+        return this.index != previous;
+    }
+
+}
@@ -6,6 +6,8 @@ import org.bukkit.entity.Player;
 import org.bukkit.scoreboard.Scoreboard;
 import org.bukkit.scoreboard.ScoreboardManager;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.function.Supplier;
@@ -34,9 +36,13 @@ public class GlobalScoreboard extends AbstractScoreboard {
      *
      * @throws LineTooLongException Thrown if a line on the scoreboard is over 64 characters
      */
+    @Override
     public void updateScoreboard() throws LineTooLongException {
+        long start = this.getStats().startUpdate();
         this.createBukkitScoreboardIfNull();
+        this.flushObjectives();
         if (this.linesSupplier != null) updateScoreboard(toBukkitScoreboard(), this.linesSupplier.get());
+        this.getStats().recordUpdate(start);
     }
 
     /**
@@ -60,6 +66,11 @@ public class GlobalScoreboard extends AbstractScoreboard {
         return this.scoreboard;
     }
 
+    @Override
+    protected Collection<Scoreboard> getBukkitScoreboards() {
+        return this.scoreboard == null ? Collections.emptyList() : Collections.singletonList(this.scoreboard);
+    }
+
     /**
      * Creates the Bukkit Scoreboard for this scoreboard to use
      */
@@ -84,6 +95,16 @@ public class GlobalScoreboard extends AbstractScoreboard {
         this.titleSupplier = titleSupplier;
     }
 
+    /**
+     * Displays an animated title. The frames are advanced by a {@link TitleAnimator}.
+     *
+     * @param title The title. Cannot be null.
+     * @see TitleAnimator#animate(GlobalScoreboard, AnimatedTitle)
+     */
+    public void setAnimatedTitle(AnimatedTitle title) {
+        this.titleSupplier = title::getFrame;
+    }
+
     @Override
     protected String getTitle(Scoreboard scoreboard) {
         return this.titleSupplier.get();
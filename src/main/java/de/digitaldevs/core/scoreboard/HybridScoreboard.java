@@ -0,0 +1,124 @@
+package de.digitaldevs.core.scoreboard;
+
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link PersonalScoreboard} whose lines are described by a {@link ScoreboardTemplate}. <br>
+ * The shared lines of the template are generated and translated once per update of all players and handed to
+ * every player as the same instance. For every player only the dynamic lines are generated, and only the lines which
+ * differ from the ones the player currently sees are sent. <br>
+ * With async generation the shared lines are read from the threads of the executor. This is only safe because they
+ * are written in {@link #prepareUpdate()} on the main thread before the work of an update is handed to the executor,
+ * so they must not be changed anywhere else.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ */
+public class HybridScoreboard extends PersonalScoreboard {
+
+    private final ScoreboardTemplate template;
+    private final String[] sharedLines;
+    private final String[] translatedSharedLines;
+
+    public HybridScoreboard(Function<Player, String> generateTitleFunction, ScoreboardTemplate template) {
+        this.template = template.copy();
+        this.sharedLines = new String[template.size()];
+        this.translatedSharedLines = new String[template.size()];
+        this.setGenerateTitleFunction(generateTitleFunction);
+        this.setGenerateLinesFunction(this::generateLines);
+        this.updateSharedLines();
+    }
+
+    /**
+     * Generates the shared lines once before the scoreboards of all players are updated.
+     */
+    @Override
+    protected void prepareUpdate() {
+        this.updateSharedLines();
+    }
+
+    /**
+     * Sends only the lines of a player which have changed. Shared lines are interned in the {@link LinePool} like the
+     * rendered lines, so an unchanged shared line is usually found equal by identity.
+     *
+     * @param player The player whose scoreboard should be rendered
+     */
+    @Override
+    protected void render(Player player) {
+        ScoreboardViewer viewer = this.getViewer(player);
+        if (viewer == null) return;
+
+        List<String> lines = viewer.getLines();
+        if (viewer.getScoreboard() == null || lines == null || lines.size() != this.template.size()) {
+            super.render(player);
+            return;
+        }
+
+        Function<Player, String> titleFunction = this.getGenerateTitleFunction();
+        this.updateTitle(viewer.getScoreboard(), titleFunction == null ? null : titleFunction.apply(player));
+        int changed = 0;
+        for (int index = 0; index < this.template.size(); index++) {
+            String line;
+            String translatedLine;
+            Function<Player, String> dynamicLine = this.template.getDynamicLine(index);
+            if (dynamicLine == null) {
+                line = this.sharedLines[index];
+                if (line.equals(lines.get(index))) continue;
+                translatedLine = this.translatedSharedLines[index];
+            } else {
+                line = this.nonNull(dynamicLine.apply(player));
+                if (line.equals(lines.get(index))) continue;
+                translatedLine = this.color(line);
+            }
+
+            if (!this.updateLine(viewer.getScoreboard(), index, line, translatedLine)) {
+                super.render(player);
+                return;
+            }
+            changed++;
+        }
+        this.getStats().recordRender(changed);
+    }
+
+    /**
+     * Generates all shared lines. Lines which did not change keep their previous instance, changed lines are taken
+     * from the {@link LinePool}.
+     */
+    private void updateSharedLines() {
+        for (int index = 0; index < this.template.size(); index++) {
+            Supplier<String> sharedLine = this.template.getSharedLine(index);
+            if (sharedLine == null) continue;
+
+            String line = this.nonNull(sharedLine.get());
+            if (line.equals(this.sharedLines[index])) continue;
+            this.sharedLines[index] = LinePool.getShared().intern(line);
+            this.translatedSharedLines[index] = this.color(line);
+        }
+    }
+
+    /**
+     * Generates the complete lines of a player from the current shared lines.
+     *
+     * @param player The player
+     * @return The lines in top-down order
+     */
+    private List<String> generateLines(Player player) {
+        List<String> lines = new ArrayList<>(this.template.size());
+        for (int index = 0; index < this.template.size(); index++) {
+            Function<Player, String> dynamicLine = this.template.getDynamicLine(index);
+            lines.add(dynamicLine == null ? this.sharedLines[index] : this.nonNull(dynamicLine.apply(player)));
+        }
+        return lines;
+    }
+
+    private String nonNull(String line) {
+        return line == null ? "" : line;
+    }
+
+}
@@ -0,0 +1,139 @@
+package de.digitaldevs.core.scoreboard;
+
+import lombok.Getter;
+import org.apache.commons.lang.Validate;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded pool of rendered scoreboard lines. <br>
+ * Separators, headers and footers are the same for most viewers, so every snapshot stores a reference to one pooled
+ * instance instead of its own copy. The pool keeps the lines which were used most recently; once it is full, the line
+ * which was not used for the longest time is dropped. Dropped lines stay valid, they are just no longer shared.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ */
+public class LinePool {
+
+    private static final LinePool SHARED = new LinePool(4096);
+
+    private final Map<String, String> lines;
+    @Getter private int maxSize;
+    @Getter private long hits;
+    @Getter private long misses;
+    @Getter private long evictions;
+
+    /**
+     * Instantiates a new {@code LinePool}.
+     *
+     * @param maxSize The maximum amount of pooled lines
+     */
+    public LinePool(int maxSize) {
+        Validate.isTrue(maxSize > 0, "The pool must hold at least one line");
+        this.maxSize = maxSize;
+        this.lines = new LinkedHashMap<String, String>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                if (this.size() <= LinePool.this.maxSize) return false;
+                LinePool.this.evictions++;
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Gets the pool which is used by every {@link RenderState} and {@link MethodBasedPersonalScoreboard}.
+     *
+     * @return The shared pool
+     */
+    public static LinePool getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Gets the pooled instance of a line. If the line is not pooled yet, it is added.
+     *
+     * @param line The line. Can be null.
+     * @return The pooled instance or {@code null} if the line is null
+     */
+    public synchronized String intern(String line) {
+        if (line == null) return null;
+
+        String pooled = this.lines.get(line);
+        if (pooled != null) {
+            this.hits++;
+            return pooled;
+        }
+        this.misses++;
+        this.lines.put(line, line);
+        return line;
+    }
+
+    /**
+     * Copies lines into a compact array of pooled instances.
+     *
+     * @param lines The lines in top-down order
+     * @return The array
+     */
+    public synchronized String[] intern(Collection<String> lines) {
+        String[] array = new String[lines.size()];
+        int index = 0;
+        for (String line : lines) array[index++] = this.intern(line);
+        return array;
+    }
+
+    /**
+     * Changes the maximum amount of pooled lines. Lines which exceed the new size are dropped on the next insertion.
+     *
+     * @param maxSize The maximum amount of pooled lines
+     */
+    public synchronized void setMaxSize(int maxSize) {
+        Validate.isTrue(maxSize > 0, "The pool must hold at least one line");
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the amount of lines which are currently pooled.
+     *
+     * @return The size of the pool
+     */
+    public synchronized int size() {
+        return this.lines.size();
+    }
+
+    /**
+     * Gets the ratio of lookups which found an already pooled line.
+     *
+     * @return The hit rate between {@code 0} and {@code 1}
+     */
+    public synchronized double getHitRate() {
+        long lookups = this.hits + this.misses;
+        return lookups == 0 ? 0D : (double) this.hits / lookups;
+    }
+
+    /**
+     * Estimates how much memory the pooled lines retain.
+     *
+     * @return The approximate size in bytes
+     */
+    public synchronized long getApproximateBytes() {
+        long bytes = 64L;
+        for (String line : this.lines.keySet()) bytes += 72L + 2L * line.length();
+        return bytes;
+    }
+
+    /**
+     * Removes every pooled line and resets the statistics.
+     */
+    public synchronized void clear() {
+        this.lines.clear();
+        this.hits = 0;
+        this.misses = 0;
+        this.evictions = 0;
+    }
+
+}
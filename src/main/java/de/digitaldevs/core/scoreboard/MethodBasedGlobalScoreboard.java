@@ -1,10 +1,22 @@
 package de.digitaldevs.core.scoreboard;
 
+import de.digitaldevs.core.exception.LineTooLongException;
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
 /**
+ * A {@link GlobalScoreboard} whose title and lines are set directly. <br>
+ * Every change is rendered immediately. Enable {@link #enableAutoFlush(Plugin)} to keep only the newest title and
+ * lines set during a tick and render them once at the end of it; every state which is replaced before it was rendered
+ * is counted in {@link #getSupersededStates()}. The lines are copied while changes are collected, so the caller may
+ * reuse its list.
+ *
  * @author MerryChrismas
  * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
  * @version 1.0.0
@@ -13,6 +25,11 @@ public class MethodBasedGlobalScoreboard extends GlobalScoreboard {
 
     private String title = "";
     private List<String> lines = new ArrayList<>();
+    private boolean titleDirty;
+    private boolean linesDirty;
+    private boolean coalesceUpdates;
+    private BukkitTask autoFlushTask;
+    @Getter private long supersededStates;
 
     public MethodBasedGlobalScoreboard() {
         this.setTitleSupplier(() -> this.title);
@@ -21,16 +38,94 @@ public class MethodBasedGlobalScoreboard extends GlobalScoreboard {
 
     public void setTitle(String title) {
         this.title = title;
-        this.updateScoreboard();
+        if (!this.coalesceUpdates) {
+            this.updateScoreboard();
+            return;
+        }
+        if (this.titleDirty) this.supersededStates++;
+        this.titleDirty = true;
     }
 
     public void setLines(List<String> lines) {
-        this.lines = lines;
-        this.updateScoreboard();
+        if (!this.coalesceUpdates) {
+            this.lines = lines;
+            this.updateScoreboard();
+            return;
+        }
+        this.lines = new ArrayList<>(lines);
+        if (this.linesDirty) this.supersededStates++;
+        this.linesDirty = true;
     }
 
     public void setLines(String... lines) {
         this.setLines(Arrays.asList(lines));
     }
 
+    @Override
+    public void updateScoreboard() throws LineTooLongException {
+        this.titleDirty = false;
+        this.linesDirty = false;
+        super.updateScoreboard();
+    }
+
+    /**
+     * Renders the newest title and lines if they have changed since the last flush. A changed title alone only
+     * updates the title.
+     *
+     * @throws LineTooLongException Thrown if a line on the scoreboard is over 64 characters
+     */
+    public void flush() throws LineTooLongException {
+        this.flushObjectives();
+        if (!this.titleDirty && !this.linesDirty) return;
+        if (!this.linesDirty && this.toBukkitScoreboard() != null) {
+            this.titleDirty = false;
+            this.updateTitle();
+            return;
+        }
+        this.updateScoreboard();
+    }
+
+    /**
+     * Defines whether changes should be collected until {@link #flush()} is called. Disabling it flushes all pending changes.
+     *
+     * @param coalesceUpdates {@code true} if changes should be collected
+     */
+    public void setCoalesceUpdates(boolean coalesceUpdates) {
+        this.coalesceUpdates = coalesceUpdates;
+        if (!coalesceUpdates) this.flush();
+    }
+
+    /**
+     * Collects all changes and flushes them once per tick.
+     *
+     * @param plugin The plugin which owns the flush task. Cannot be null.
+     */
+    public void enableAutoFlush(Plugin plugin) {
+        if (this.autoFlushTask != null) return;
+        this.coalesceUpdates = true;
+        this.autoFlushTask = Bukkit.getScheduler().runTaskTimer(plugin, this::flush, 1L, 1L);
+    }
+
+    /**
+     * Stops the flush task started by {@link #enableAutoFlush(Plugin)} and flushes all pending changes.
+     */
+    public void disableAutoFlush() {
+        if (this.autoFlushTask == null) return;
+        this.autoFlushTask.cancel();
+        this.autoFlushTask = null;
+        this.setCoalesceUpdates(false);
+    }
+
+    /**
+     * Stops the flush task and destroys the scoreboard.
+     */
+    @Override
+    public void destroy() {
+        if (this.autoFlushTask != null) this.autoFlushTask.cancel();
+        this.autoFlushTask = null;
+        this.titleDirty = false;
+        this.linesDirty = false;
+        super.destroy();
+    }
+
 }
@@ -1,10 +1,17 @@
 package de.digitaldevs.core.scoreboard;
 
+import de.digitaldevs.core.exception.LineTooLongException;
 import org.bukkit.entity.Player;
 
 import java.util.*;
 
 /**
+ * A {@link PersonalScoreboard} whose title and lines are set per player. <br>
+ * Every change only updates the scoreboard of the affected player. Enable {@link #enableAutoFlush(org.bukkit.plugin.Plugin)}
+ * to collect all changes made during a tick and update every affected scoreboard once. <br>
+ * The title and lines are always read on the main thread, {@link #updateScoreboardAsync()} behaves like
+ * {@link #updateScoreboard()}.
+ *
  * @author MerryChrismas
  * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
  * @version 1.0.0
@@ -12,7 +19,7 @@ import java.util.*;
 public class MethodBasedPersonalScoreboard extends PersonalScoreboard {
 
     private final Map<UUID, String> playerToTitle = new HashMap<>();
-    private final Map<UUID, List<String>> playerToLines = new HashMap<>();
+    private final Map<UUID, String[]> playerToLines = new HashMap<>();
 
     public MethodBasedPersonalScoreboard() {
         this.setGenerateTitleFunction(this::getTitle);
@@ -24,22 +31,48 @@ public class MethodBasedPersonalScoreboard extends PersonalScoreboard {
     }
 
     public void setTitle(Player player, String title) {
-        this.playerToTitle.put(player.getUniqueId(), title);
-        this.updateScoreboard();
+        this.playerToTitle.put(player.getUniqueId(), LinePool.getShared().intern(title));
+        this.markDirty(player);
     }
 
     private List<String> getLines(Player player) {
-        return this.playerToLines.get(player.getUniqueId());
+        String[] lines = this.playerToLines.get(player.getUniqueId());
+        return lines == null ? null : Arrays.asList(lines);
     }
 
+    /**
+     * Sets the lines of a player. The lines are copied into a compact array of pooled lines, see {@link LinePool}.
+     *
+     * @param player The player
+     * @param lines  The lines in top-down order
+     */
     public void setLines(Player player, List<String> lines) {
-        this.playerToLines.put(player.getUniqueId(), lines);
-        this.updateScoreboard();
+        this.playerToLines.put(player.getUniqueId(), LinePool.getShared().intern(lines));
+        this.markDirty(player);
     }
 
     public void setLines(Player player, String... lines) {
-        this.playerToLines.put(player.getUniqueId(), Arrays.asList(lines));
+        this.setLines(player, Arrays.asList(lines));
+    }
+
+    @Override
+    public void updateScoreboardAsync() throws LineTooLongException {
         this.updateScoreboard();
     }
 
+    @Override
+    protected boolean evictPlayer(UUID playerUUID) {
+        boolean evicted = super.evictPlayer(playerUUID);
+        evicted |= this.playerToTitle.remove(playerUUID) != null;
+        evicted |= this.playerToLines.remove(playerUUID) != null;
+        return evicted;
+    }
+
+    @Override
+    protected void collectTrackedPlayers(Set<UUID> players) {
+        super.collectTrackedPlayers(players);
+        players.addAll(this.playerToTitle.keySet());
+        players.addAll(this.playerToLines.keySet());
+    }
+
 }
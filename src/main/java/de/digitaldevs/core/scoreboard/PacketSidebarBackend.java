@@ -0,0 +1,204 @@
+package de.digitaldevs.core.scoreboard;
+
+import de.digitaldevs.core.exception.LineTooLongException;
+import de.digitaldevs.core.reflection.PacketAccessor;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link SidebarBackend} which sends the scoreboard packets directly to the players. <br>
+ * No Bukkit scoreboard is created, the server only keeps the {@link RenderState} of every viewer. The packets are built
+ * for the 1.8 protocol. Every line is split into the prefix and suffix of its team, so a line can hold at most 32
+ * characters including the color codes which are carried over into the suffix. Longer lines are rejected.
+ * The nametag teams of the scoreboard are sent as well, one packet per change is shared by all viewers.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ */
+public class PacketSidebarBackend implements SidebarBackend {
+
+    private static final String OBJECTIVE_NAME = "sidebar";
+    private static final int SIDEBAR_SLOT = 1;
+
+    private final PacketAccessor packetAccessor;
+
+    /**
+     * Instantiates a new {@code PacketSidebarBackend} for the version the server is running on.
+     */
+    public PacketSidebarBackend() {
+        this(new PacketAccessor());
+    }
+
+    /**
+     * Instantiates a new {@code PacketSidebarBackend}.
+     *
+     * @param packetAccessor The accessor which creates and sends the packets
+     */
+    public PacketSidebarBackend(PacketAccessor packetAccessor) {
+        this.packetAccessor = packetAccessor;
+    }
+
+    @Override
+    public void show(Player player) {
+        this.sendObjective(player, 0, "");
+
+        Object packet = this.packetAccessor.newInstance("PacketPlayOutScoreboardDisplayObjective");
+        this.packetAccessor.set(packet, "a", SIDEBAR_SLOT);
+        this.packetAccessor.set(packet, "b", OBJECTIVE_NAME);
+        this.packetAccessor.sendPacket(player, packet);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws LineTooLongException If a line does not fit into the prefix and suffix of its team, i.e. is over 32 characters
+     */
+    @Override
+    public int render(Player player, RenderState state, String title, List<String> lines) throws LineTooLongException {
+        if (title == null) title = "";
+        if (!title.equals(state.getTitle())) {
+            this.sendObjective(player, 2, ChatColor.translateAlternateColorCodes('&', title));
+            state.setTitle(title);
+        }
+
+        List<String> previous = state.getLines();
+        if (SidebarDiff.isUnchanged(previous, lines)) return 0;
+
+        for (int index = 0; index < lines.size(); index++) this.split(lines.get(index));
+
+        List<SidebarDiff.Change> changes = SidebarDiff.compute(previous, lines);
+        for (SidebarDiff.Change change : changes) {
+            String entry = SidebarEntries.entry(change.getScore());
+            switch (change.getType()) {
+                case INSERT:
+                    this.sendTeam(player, change.getScore(), 0, change.getLine(), entry);
+                    this.sendScore(player, entry, change.getScore(), "CHANGE");
+                    break;
+                case UPDATE:
+                    this.sendTeam(player, change.getScore(), 2, change.getLine(), null);
+                    break;
+                case REMOVE:
+                    this.sendScore(player, entry, 0, "REMOVE");
+                    this.sendTeam(player, change.getScore(), 1, null, null);
+                    break;
+            }
+        }
+        state.setLines(lines);
+        return changes.size();
+    }
+
+    @Override
+    public void hide(Player player, RenderState state) {
+        List<String> lines = state.getLines();
+        if (lines != null) {
+            for (int score = 1; score <= lines.size(); score++) this.sendTeam(player, score, 1, null, null);
+        }
+        this.sendObjective(player, 1, "");
+    }
+
+    @Override
+    public void updateTeam(Player player, TeamUpdate update) {
+        Object packet = update.getPreparedPacket();
+        if (packet == null) {
+            packet = this.packetAccessor.newInstance("PacketPlayOutScoreboardTeam");
+            this.packetAccessor.set(packet, "a", update.getTeamName());
+            this.packetAccessor.set(packet, "h", update.getType().ordinal());
+            if (update.getPrefix() != null) {
+                String prefix = update.getPrefix();
+                this.packetAccessor.set(packet, "b", update.getTeamName());
+                this.packetAccessor.set(packet, "c", prefix.length() > 16 ? prefix.substring(0, 16) : prefix);
+                this.packetAccessor.set(packet, "d", "");
+                this.packetAccessor.set(packet, "e", "always");
+                this.packetAccessor.set(packet, "f", -1);
+            }
+            if (!update.getEntries().isEmpty()) this.packetAccessor.set(packet, "g", new ArrayList<>(update.getEntries()));
+            update.setPreparedPacket(packet);
+        }
+        this.packetAccessor.sendPacket(player, packet);
+    }
+
+    /**
+     * Splits a line into the prefix and suffix of its team. A color code is never split, and the colors of the prefix
+     * are carried over into the suffix.
+     *
+     * @param line The untranslated content of the line
+     * @return The translated prefix and suffix
+     * @throws LineTooLongException If the line does not fit into 16 characters of prefix and 16 characters of suffix
+     */
+    private String[] split(String line) throws LineTooLongException {
+        String text = ChatColor.translateAlternateColorCodes('&', line);
+        if (text.length() <= 16) return new String[]{text, ""};
+
+        int end = text.charAt(15) == ChatColor.COLOR_CHAR ? 15 : 16;
+        String prefix = text.substring(0, end);
+        String suffix = ChatColor.getLastColors(prefix) + text.substring(end);
+        if (suffix.length() > 16) {
+            throw new LineTooLongException("The line is too long! Only 32 characters are supported by the packet backend!");
+        }
+        return new String[]{prefix, suffix};
+    }
+
+    /**
+     * Sends the sidebar objective.
+     *
+     * @param player      The receiver
+     * @param mode        {@code 0} to create, {@code 1} to remove and {@code 2} to update the objective
+     * @param displayName The translated title
+     */
+    private void sendObjective(Player player, int mode, String displayName) {
+        Object packet = this.packetAccessor.newInstance("PacketPlayOutScoreboardObjective");
+        this.packetAccessor.set(packet, "a", OBJECTIVE_NAME);
+        this.packetAccessor.set(packet, "b", displayName);
+        this.packetAccessor.set(packet, "c", this.packetAccessor.getEnumConstant("IScoreboardCriteria$EnumScoreboardHealthDisplay", "INTEGER"));
+        this.packetAccessor.set(packet, "d", mode);
+        this.packetAccessor.sendPacket(player, packet);
+    }
+
+    /**
+     * Sends the score of a sidebar entry.
+     *
+     * @param player The receiver
+     * @param entry  The entry of the line
+     * @param score  The score of the line
+     * @param action {@code CHANGE} or {@code REMOVE}
+     */
+    private void sendScore(Player player, String entry, int score, String action) {
+        Object packet = this.packetAccessor.newInstance("PacketPlayOutScoreboardScore");
+        this.packetAccessor.set(packet, "a", entry);
+        this.packetAccessor.set(packet, "b", OBJECTIVE_NAME);
+        this.packetAccessor.set(packet, "c", score);
+        this.packetAccessor.set(packet, "d", this.packetAccessor.getEnumConstant("PacketPlayOutScoreboardScore$EnumScoreboardAction", action));
+        this.packetAccessor.sendPacket(player, packet);
+    }
+
+    /**
+     * Sends the team which holds the content of a line.
+     *
+     * @param player The receiver
+     * @param score  The score of the line
+     * @param mode   {@code 0} to create, {@code 1} to remove and {@code 2} to update the team
+     * @param line   The untranslated content of the line. Only needed to create or update the team.
+     * @param entry  The entry of the line. Only needed to create the team.
+     */
+    private void sendTeam(Player player, int score, int mode, String line, String entry) {
+        Object packet = this.packetAccessor.newInstance("PacketPlayOutScoreboardTeam");
+        this.packetAccessor.set(packet, "a", SidebarEntries.teamName(score));
+        this.packetAccessor.set(packet, "h", mode);
+        if (line != null) {
+            String[] parts = this.split(line);
+            this.packetAccessor.set(packet, "b", SidebarEntries.teamName(score));
+            this.packetAccessor.set(packet, "c", parts[0]);
+            this.packetAccessor.set(packet, "d", parts[1]);
+            this.packetAccessor.set(packet, "e", "always");
+            this.packetAccessor.set(packet, "f", -1);
+        }
+        if (entry != null) this.packetAccessor.set(packet, "g", Collections.singletonList(entry));
+        this.packetAccessor.sendPacket(player, packet);
+    }
+
+}
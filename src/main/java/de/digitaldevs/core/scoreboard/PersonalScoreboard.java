@@ -1,15 +1,30 @@
 package de.digitaldevs.core.scoreboard;
 
 import de.digitaldevs.core.exception.LineTooLongException;
+import lombok.Getter;
 import org.apache.commons.lang.Validate;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.scoreboard.Scoreboard;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 /**
+ * A scoreboard which shows every player its own title and lines. <br>
+ * The title and lines are generated by functions. By default they are called on the main thread. With
+ * {@link #enableAsyncGeneration(Plugin, Executor)} {@link #updateScoreboardAsync()} calls them in parallel on a worker
+ * pool. In that case the functions must not modify or query any Bukkit state except for thread-safe methods like
+ * {@link Player#getUniqueId()} and {@link Player#getName()}, and must only read data which is safe to access from
+ * other threads. The results are applied on the main thread.
+ *
  * @author MerryChrismas
  * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
  * @version 1.0.0
@@ -18,7 +33,27 @@ public class PersonalScoreboard extends AbstractScoreboard {
 
     private Function<Player, String> generateTitleFunction;
     private Function<Player, List<String>> generateLinesFunction;
-    private final Map<UUID, Scoreboard> playerScoreboard = new HashMap<>();
+    private final Map<UUID, ScoreboardViewer> viewers = new HashMap<>();
+    private final Map<Scoreboard, ScoreboardViewer> viewersByScoreboard = new IdentityHashMap<>();
+    private final Set<UUID> dirtyPlayers = new LinkedHashSet<>();
+    private boolean coalesceUpdates;
+    private BukkitTask autoFlushTask;
+    private final Set<UUID> pendingJoins = new LinkedHashSet<>();
+    private Plugin joinPlugin;
+    private long joinBudgetNanos;
+    private BukkitTask joinTask;
+    private volatile Plugin asyncPlugin;
+    private volatile Executor asyncExecutor;
+    private final Map<UUID, Long> generations = new HashMap<>();
+    private final Queue<GeneratedContent> generatedContents = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean applyScheduled = new AtomicBoolean();
+    @Getter private long staleResults;
+    @Getter private SidebarBackend backend;
+    private final Deque<UUID> refreshQueue = new ArrayDeque<>();
+    private int refreshBuckets;
+    private long refreshBudgetNanos;
+    private int refreshCarryOver;
+    private BukkitTask refreshTask;
 
     public PersonalScoreboard() {
     }
@@ -33,32 +68,380 @@ public class PersonalScoreboard extends AbstractScoreboard {
      *
      * @throws LineTooLongException Thrown if the scoreboard contains a line over 64 characters
      */
+    @Override
     public void updateScoreboard() throws LineTooLongException {
+        this.flushObjectives();
+        if (this.generateLinesFunction == null) return;
+        long start = this.getStats().startUpdate();
+        this.prepareUpdate();
+        for (UUID playerUUID : this.activePlayers) {
+            Player player = Bukkit.getPlayer(playerUUID);
+            if (player == null) continue;
+
+            this.render(player);
+        }
+        this.dirtyPlayers.clear();
+        this.getStats().recordUpdate(start);
+    }
+
+    /**
+     * Called once on the main thread before the scoreboards of all players are updated, either by
+     * {@link #updateScoreboard()}, {@link #updateScoreboardAsync()} or at the start of every round of the staggered
+     * refresh. Does nothing by default.
+     */
+    protected void prepareUpdate() {
+    }
+
+    /**
+     * Refreshes the scoreboards of all players spread over multiple ticks. <br>
+     * The players are split into {@code buckets} parts and one part is updated per tick, so every scoreboard is
+     * refreshed once every {@code buckets} ticks. If a tick takes longer than the budget, the remaining players of
+     * the part are carried over to the next tick. At least one player is updated per tick.
+     *
+     * @param plugin  The plugin which owns the refresh task. Cannot be null.
+     * @param buckets The amount of ticks one round of refreshes is spread over. Must be at least 1.
+     * @param budget  The maximal time per tick. Zero or less disables the limit.
+     * @param unit    The unit of the budget. Cannot be null.
+     */
+    public void startStaggeredRefresh(Plugin plugin, int buckets, long budget, TimeUnit unit) {
+        Validate.isTrue(buckets > 0, "At least one bucket is needed");
+        this.stopStaggeredRefresh();
+        this.refreshBuckets = buckets;
+        this.refreshBudgetNanos = Math.max(0L, unit.toNanos(budget));
+        this.refreshTask = Bukkit.getScheduler().runTaskTimer(plugin, this::refreshBucket, 1L, 1L);
+    }
+
+    /**
+     * Stops the staggered refresh.
+     */
+    public void stopStaggeredRefresh() {
+        if (this.refreshTask != null) this.refreshTask.cancel();
+        this.refreshTask = null;
+        this.refreshQueue.clear();
+        this.refreshCarryOver = 0;
+    }
+
+    /**
+     * Updates the players of the current bucket and the players which were carried over from the previous tick.
+     */
+    private void refreshBucket() {
+        this.flushObjectives();
+        if (this.generateLinesFunction == null) return;
+        if (this.refreshQueue.isEmpty()) {
+            this.refreshQueue.addAll(this.activePlayers);
+            this.refreshCarryOver = 0;
+            this.prepareUpdate();
+        }
+
+        int quota = (this.activePlayers.size() + this.refreshBuckets - 1) / this.refreshBuckets + this.refreshCarryOver;
+        int processed = 0;
+        long start = System.nanoTime();
+        while (processed < quota && !this.refreshQueue.isEmpty()) {
+            if (processed > 0 && this.refreshBudgetNanos > 0L && System.nanoTime() - start >= this.refreshBudgetNanos) break;
+
+            UUID playerUUID = this.refreshQueue.poll();
+            Player player = Bukkit.getPlayer(playerUUID);
+            if (player != null && this.viewers.containsKey(playerUUID)) this.render(player);
+            processed++;
+        }
+        this.refreshCarryOver = this.refreshQueue.isEmpty() ? 0 : quota - processed;
+    }
+
+    /**
+     * Updates the scoreboard of a single player. The scoreboards of all other players stay untouched.
+     *
+     * @param player The player whose scoreboard should be updated
+     * @throws LineTooLongException Thrown if the scoreboard contains a line over 64 characters
+     */
+    public void updateScoreboard(Player player) throws LineTooLongException {
+        this.flushObjectives();
+        if (this.generateLinesFunction == null) return;
+        if (!this.viewers.containsKey(player.getUniqueId())) return;
+        this.dirtyPlayers.remove(player.getUniqueId());
+        this.render(player);
+    }
+
+    /**
+     * Marks the scoreboard of a player as outdated. <br>
+     * If updates are coalesced (see {@link #setCoalesceUpdates(boolean)} and {@link #enableAutoFlush(Plugin)}),
+     * the scoreboard is updated with the next {@link #flush()}, no matter how often it was marked in the meantime.
+     * Otherwise it is updated immediately.
+     *
+     * @param player The player whose scoreboard is outdated
+     * @throws LineTooLongException Thrown if the scoreboard contains a line over 64 characters
+     */
+    public void markDirty(Player player) throws LineTooLongException {
+        if (this.coalesceUpdates) this.dirtyPlayers.add(player.getUniqueId());
+        else this.updateScoreboard(player);
+    }
+
+    /**
+     * Updates the scoreboard of every player which was marked as outdated since the last flush. Each scoreboard is
+     * updated only once.
+     *
+     * @throws LineTooLongException Thrown if the scoreboard contains a line over 64 characters
+     */
+    public void flush() throws LineTooLongException {
+        this.flushObjectives();
+        if (this.dirtyPlayers.isEmpty()) return;
+
+        List<UUID> playerUUIDs = new ArrayList<>(this.dirtyPlayers);
+        this.dirtyPlayers.clear();
+        for (UUID playerUUID : playerUUIDs) {
+            Player player = Bukkit.getPlayer(playerUUID);
+            if (player != null && this.viewers.containsKey(playerUUID)) this.render(player);
+        }
+    }
+
+    /**
+     * Defines whether changes should be collected until {@link #flush()} is called. Disabling it flushes all pending changes.
+     *
+     * @param coalesceUpdates {@code true} if changes should be collected
+     */
+    public void setCoalesceUpdates(boolean coalesceUpdates) {
+        this.coalesceUpdates = coalesceUpdates;
+        if (!coalesceUpdates) this.flush();
+    }
+
+    /**
+     * Collects all changes and flushes them once per tick.
+     *
+     * @param plugin The plugin which owns the flush task. Cannot be null.
+     */
+    public void enableAutoFlush(Plugin plugin) {
+        if (this.autoFlushTask != null) return;
+        this.coalesceUpdates = true;
+        this.autoFlushTask = Bukkit.getScheduler().runTaskTimer(plugin, this::flush, 1L, 1L);
+    }
+
+    /**
+     * Stops the flush task started by {@link #enableAutoFlush(Plugin)} and flushes all pending changes.
+     */
+    public void disableAutoFlush() {
+        if (this.autoFlushTask == null) return;
+        this.autoFlushTask.cancel();
+        this.autoFlushTask = null;
+        this.setCoalesceUpdates(false);
+    }
+
+    /**
+     * Generates the lines for a player and applies them to the player's scoreboard.
+     *
+     * @param player The player whose scoreboard should be rendered
+     */
+    protected void render(Player player) {
+        if (!this.generations.isEmpty()) this.generations.remove(player.getUniqueId());
+        List<String> lines = this.generateLinesFunction.apply(player);
+        if (lines == null) lines = Collections.emptyList();
+
+        String title = this.generateTitleFunction == null ? null : this.generateTitleFunction.apply(player);
+        this.apply(player, this.viewers.get(player.getUniqueId()), title, lines);
+    }
+
+    /**
+     * Applies a title and lines to the sidebar of a viewer, either through its Bukkit scoreboard or the backend.
+     *
+     * @param player The player
+     * @param viewer The state of the player
+     * @param title  The title. Can be null.
+     * @param lines  The lines in top-down order
+     */
+    protected void apply(Player player, ScoreboardViewer viewer, String title, List<String> lines) {
+        if (viewer.getScoreboard() != null) {
+            this.updateScoreboard(viewer.getScoreboard(), title, lines);
+            return;
+        }
+        this.getStats().recordRender(this.backend.render(player, viewer.getRenderState(), title, lines));
+    }
+
+    /**
+     * Generates the title and lines of every player on the worker pool and applies them on the main thread afterwards.
+     * If a newer update was requested for a player before the previous result was applied, the previous result is skipped. <br>
+     * Behaves like {@link #updateScoreboard()} if the async generation is not enabled.
+     *
+     * @throws LineTooLongException Thrown if the scoreboard contains a line over 64 characters
+     */
+    public void updateScoreboardAsync() throws LineTooLongException {
+        Plugin plugin = this.asyncPlugin;
+        Executor executor = this.asyncExecutor;
+        if (plugin == null || executor == null) {
+            this.updateScoreboard();
+            return;
+        }
+        this.flushObjectives();
         if (this.generateLinesFunction == null) return;
+        this.prepareUpdate();
+
         for (UUID playerUUID : this.activePlayers) {
             Player player = Bukkit.getPlayer(playerUUID);
             if (player == null) continue;
 
-            List<String> lines = this.generateLinesFunction.apply(player);
-            if (lines == null) lines = new ArrayList<>();
+            long generation = this.generations.merge(playerUUID, 1L, Long::sum);
+            Function<Player, String> titleFunction = this.generateTitleFunction;
+            Function<Player, List<String>> linesFunction = this.generateLinesFunction;
+            executor.execute(() -> {
+                try {
+                    String title = titleFunction == null ? null : titleFunction.apply(player);
+                    List<String> lines = linesFunction.apply(player);
+                    lines = lines == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(lines));
+                    this.generatedContents.add(new GeneratedContent(playerUUID, generation, title, lines));
+                } catch (Exception exception) {
+                    exception.printStackTrace();
+                    return;
+                }
+                if (this.asyncPlugin == null || !this.applyScheduled.compareAndSet(false, true)) return;
+                try {
+                    Bukkit.getScheduler().runTask(plugin, this::applyGeneratedContents);
+                } catch (Exception exception) {
+                    this.applyScheduled.set(false);
+                    exception.printStackTrace();
+                }
+            });
+        }
+    }
+
+    /**
+     * Enables the async generation using the common {@link ForkJoinPool}.
+     *
+     * @param plugin The plugin which owns the tasks that apply the results. Cannot be null.
+     * @see #enableAsyncGeneration(Plugin, Executor)
+     */
+    public void enableAsyncGeneration(Plugin plugin) {
+        this.enableAsyncGeneration(plugin, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Enables the async generation for {@link #updateScoreboardAsync()}. <br>
+     * <strong>Note: </strong> The title and lines functions will be called from the threads of the executor.
+     * See the class description for what they are allowed to do.
+     *
+     * @param plugin   The plugin which owns the tasks that apply the results. Cannot be null.
+     * @param executor The executor which calls the functions. Cannot be null.
+     */
+    public void enableAsyncGeneration(Plugin plugin, Executor executor) {
+        this.asyncPlugin = plugin;
+        this.asyncExecutor = executor;
+    }
 
-            this.updateScoreboard(player.getScoreboard(), lines);
+    /**
+     * Disables the async generation. Results which are still in progress will be skipped.
+     */
+    public void disableAsyncGeneration() {
+        this.asyncPlugin = null;
+        this.asyncExecutor = null;
+        this.generations.clear();
+        this.generatedContents.clear();
+        this.applyScheduled.set(false);
+    }
+
+    /**
+     * Applies all generated results which are still up to date. Must be called on the main thread.
+     */
+    private void applyGeneratedContents() {
+        this.applyScheduled.set(false);
+        GeneratedContent content;
+        while ((content = this.generatedContents.poll()) != null) {
+            ScoreboardViewer viewer = this.viewers.get(content.playerUUID);
+            Player player = Bukkit.getPlayer(content.playerUUID);
+            Long generation = this.generations.get(content.playerUUID);
+            if (viewer == null || player == null || generation == null || generation != content.generation) {
+                this.staleResults++;
+                continue;
+            }
+            this.generations.remove(content.playerUUID);
+            this.apply(player, viewer, content.title, content.lines);
         }
     }
 
     /**
-     * Add a player to the scoreboard.
+     * Add a player to the scoreboard. Only the scoreboard of the new player is rendered.
      *
      * @param player The player to add
      */
     @Override
     public void addPlayer(Player player) {
-        this.activePlayers.add(player.getUniqueId());
+        this.pendingJoins.remove(player.getUniqueId());
+        this.join(player);
+    }
+
+    /**
+     * Add multiple players to the scoreboard at once. Every player's scoreboard is rendered exactly once. <br>
+     * If a join budget is set (see {@link #setJoinBudget(Plugin, long, TimeUnit)}) and adding the players takes longer
+     * than the budget, the remaining players are added during the following ticks.
+     *
+     * @param players The players to add. Cannot be null.
+     */
+    public void addPlayers(Collection<? extends Player> players) {
+        for (Player player : players) {
+            if (!this.viewers.containsKey(player.getUniqueId())) this.pendingJoins.add(player.getUniqueId());
+        }
+        if (this.joinTask == null) this.processPendingJoins();
+    }
+
+    /**
+     * Limits the time which {@link #addPlayers(Collection)} may spend per tick.
+     *
+     * @param plugin The plugin which owns the tasks that add the remaining players. Cannot be null.
+     * @param budget The maximal time per tick. Zero or less disables the limit.
+     * @param unit   The unit of the budget. Cannot be null.
+     */
+    public void setJoinBudget(Plugin plugin, long budget, TimeUnit unit) {
+        this.joinPlugin = plugin;
+        this.joinBudgetNanos = Math.max(0L, unit.toNanos(budget));
+    }
+
+    /**
+     * Adds pending players until all of them are added or the join budget of the current tick is exhausted.
+     * In the latter case the remaining players are added during the next tick.
+     */
+    private void processPendingJoins() {
+        this.joinTask = null;
+        long start = System.nanoTime();
+        Iterator<UUID> iterator = this.pendingJoins.iterator();
+        while (iterator.hasNext()) {
+            if (this.joinBudgetNanos > 0L && this.joinPlugin != null && System.nanoTime() - start >= this.joinBudgetNanos) {
+                this.joinTask = Bukkit.getScheduler().runTask(this.joinPlugin, this::processPendingJoins);
+                return;
+            }
+
+            Player player = Bukkit.getPlayer(iterator.next());
+            iterator.remove();
+            if (player != null) this.join(player);
+        }
+    }
+
+    /**
+     * Creates the personal Bukkit scoreboard of a player and renders it for the first time.
+     *
+     * @param player The player who joins the scoreboard
+     */
+    private void join(Player player) {
+        if (!this.viewers.containsKey(player.getUniqueId())) this.activePlayers.add(player.getUniqueId());
+        if (this.backend != null) {
+            ScoreboardViewer viewer = new ScoreboardViewer(player.getUniqueId(), null, new RenderState());
+            ScoreboardViewer previous = this.viewers.put(player.getUniqueId(), viewer);
+            if (previous != null && previous.getScoreboard() == null) this.hide(player, previous);
+            this.backend.show(player);
+            for (int index = 0; index < this.getTeams().size(); index++) {
+                this.sendTeamUpdate(player, viewer, this.getTeams().get(index).snapshot());
+            }
+            this.syncTeamMembership(player);
+            this.updateScoreboard(player);
+            return;
+        }
+
         Validate.notNull(Bukkit.getScoreboardManager());
         Scoreboard scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
         player.setScoreboard(scoreboard);
-        this.playerScoreboard.put(player.getUniqueId(), scoreboard);
-        this.updateScoreboard();
+        ScoreboardViewer viewer = new ScoreboardViewer(player.getUniqueId(), scoreboard, this.getRenderStates().getOrCreate(scoreboard));
+        ScoreboardViewer previous = this.viewers.put(player.getUniqueId(), viewer);
+        if (previous != null && previous.getScoreboard() != null) {
+            this.viewersByScoreboard.remove(previous.getScoreboard());
+            this.getRenderStates().evict(previous.getScoreboard());
+        }
+        this.viewersByScoreboard.put(scoreboard, viewer);
+        this.syncTeamMembership(player);
+        this.updateScoreboard(player);
     }
 
     /**
@@ -69,7 +452,131 @@ public class PersonalScoreboard extends AbstractScoreboard {
     @Override
     public void removePlayer(Player player) {
         super.removePlayer(player);
-        this.playerScoreboard.remove(player.getUniqueId());
+        this.evictPlayer(player.getUniqueId());
+    }
+
+    @Override
+    protected boolean evictPlayer(UUID playerUUID) {
+        boolean evicted = super.evictPlayer(playerUUID);
+        ScoreboardViewer viewer = this.viewers.remove(playerUUID);
+        if (viewer != null) {
+            evicted = true;
+            if (viewer.getScoreboard() != null) {
+                this.viewersByScoreboard.remove(viewer.getScoreboard());
+                this.getRenderStates().evict(viewer.getScoreboard());
+            }
+        }
+        evicted |= this.dirtyPlayers.remove(playerUUID);
+        evicted |= this.pendingJoins.remove(playerUUID);
+        evicted |= this.refreshQueue.remove(playerUUID);
+        evicted |= this.generations.remove(playerUUID) != null;
+        return evicted;
+    }
+
+    @Override
+    protected void collectTrackedPlayers(Set<UUID> players) {
+        super.collectTrackedPlayers(players);
+        players.addAll(this.viewers.keySet());
+        players.addAll(this.dirtyPlayers);
+        players.addAll(this.pendingJoins);
+        players.addAll(this.refreshQueue);
+        players.addAll(this.generations.keySet());
+    }
+
+    /**
+     * Stops all tasks of this scoreboard and destroys it.
+     */
+    @Override
+    public void destroy() {
+        if (this.autoFlushTask != null) this.autoFlushTask.cancel();
+        this.autoFlushTask = null;
+        if (this.joinTask != null) this.joinTask.cancel();
+        this.joinTask = null;
+        this.dirtyPlayers.clear();
+        this.pendingJoins.clear();
+        this.disableAsyncGeneration();
+        this.stopStaggeredRefresh();
+        super.destroy();
+        this.viewers.clear();
+        this.viewersByScoreboard.clear();
+    }
+
+    /**
+     * Sets the backend which displays the sidebars. By default every player gets its own Bukkit scoreboard. <br>
+     * Players who are shown a sidebar by a backend keep their current Bukkit scoreboard. The teams of this scoreboard
+     * are only displayed to them if the backend supports it, see {@link SidebarBackend#updateTeam(Player, TeamUpdate)}.
+     * Backends may support shorter lines, e.g. the {@link PacketSidebarBackend} rejects lines over 32 characters.
+     *
+     * @param backend The backend or {@code null} to use Bukkit scoreboards
+     * @throws IllegalArgumentException If players are currently viewing this scoreboard
+     */
+    public void setBackend(SidebarBackend backend) {
+        Validate.isTrue(this.viewers.isEmpty(), "The backend can only be changed while no player is viewing the scoreboard");
+        this.backend = backend;
+    }
+
+    @Override
+    protected void resetScoreboard(Player player) {
+        ScoreboardViewer viewer = this.viewers.get(player.getUniqueId());
+        if (viewer != null && viewer.getScoreboard() == null) {
+            this.viewers.remove(player.getUniqueId());
+            this.hide(player, viewer);
+        } else super.resetScoreboard(player);
+    }
+
+    /**
+     * Removes the sidebar and the teams of a viewer who is shown the sidebar by the backend.
+     *
+     * @param player The player
+     * @param viewer The viewer of the player
+     */
+    private void hide(Player player, ScoreboardViewer viewer) {
+        for (String teamName : viewer.getKnownTeams()) this.backend.updateTeam(player, TeamUpdate.remove(teamName));
+        viewer.getKnownTeams().clear();
+        this.backend.hide(player, viewer.getRenderState());
+    }
+
+    /**
+     * Sends a team update to a viewer of the backend. The client of the viewer rejects a team which is created twice
+     * as well as changes of a team it does not know, so the known teams of every viewer are tracked: a team which is
+     * created again is removed beforehand, and changes of unknown teams are skipped.
+     *
+     * @param player The player
+     * @param viewer The viewer of the player
+     * @param update The prepared update
+     */
+    private void sendTeamUpdate(Player player, ScoreboardViewer viewer, TeamUpdate update) {
+        Set<String> knownTeams = viewer.getKnownTeams();
+        switch (update.getType()) {
+            case CREATE:
+                if (!knownTeams.add(update.getTeamName())) this.backend.updateTeam(player, update.getRemoval());
+                break;
+            case REMOVE:
+                if (!knownTeams.remove(update.getTeamName())) return;
+                break;
+            default:
+                if (!knownTeams.contains(update.getTeamName())) return;
+                break;
+        }
+        this.backend.updateTeam(player, update);
+    }
+
+    /**
+     * Fans a prepared change of a team out to the personal Bukkit scoreboards and to every viewer of the backend.
+     *
+     * @param team   The team which has changed
+     * @param update The prepared update
+     */
+    @Override
+    protected void broadcastTeamUpdate(ScoreboardTeam team, TeamUpdate update) {
+        super.broadcastTeamUpdate(team, update);
+        if (this.backend == null) return;
+
+        for (ScoreboardViewer viewer : this.viewers.values()) {
+            if (viewer.getScoreboard() != null) continue;
+            Player player = Bukkit.getPlayer(viewer.getPlayerUUID());
+            if (player != null) this.sendTeamUpdate(player, viewer, update);
+        }
     }
 
     /**
@@ -80,7 +587,18 @@ public class PersonalScoreboard extends AbstractScoreboard {
      * @return The Bukkit Scoreboard
      */
     public Scoreboard toBukkitScoreboard(Player player) {
-        return this.playerScoreboard.get(player.getUniqueId());
+        ScoreboardViewer viewer = this.viewers.get(player.getUniqueId());
+        return viewer == null ? null : viewer.getScoreboard();
+    }
+
+    /**
+     * Get the state of a player who is viewing this scoreboard.
+     *
+     * @param player The player
+     * @return The state of the player or {@code null} if the player is not viewing this scoreboard
+     */
+    public ScoreboardViewer getViewer(Player player) {
+        return this.viewers.get(player.getUniqueId());
     }
 
     @Override
@@ -88,24 +606,70 @@ public class PersonalScoreboard extends AbstractScoreboard {
         return this.generateTitleFunction.apply(this.playerForScoreboard(scoreboard));
     }
 
+    @Override
+    protected Collection<Scoreboard> getBukkitScoreboards() {
+        return Collections.unmodifiableSet(this.viewersByScoreboard.keySet());
+    }
+
     private Player playerForScoreboard(Scoreboard scoreboard) {
-        if (!this.playerScoreboard.containsValue(scoreboard)) return null;
-        Player player = null;
-        for (Map.Entry<UUID, Scoreboard> entry : this.playerScoreboard.entrySet()) {
-            if (entry.getValue().equals(scoreboard)) {
-                player = Bukkit.getPlayer(entry.getKey());
-                break;
-            }
-        }
-        return player;
+        ScoreboardViewer viewer = this.viewersByScoreboard.get(scoreboard);
+        return viewer == null ? null : Bukkit.getPlayer(viewer.getPlayerUUID());
     }
 
     protected void setGenerateLinesFunction(Function<Player, List<String>> generateLinesFunction) {
         this.generateLinesFunction = generateLinesFunction;
     }
 
+    protected Function<Player, String> getGenerateTitleFunction() {
+        return this.generateTitleFunction;
+    }
+
     protected void setGenerateTitleFunction(Function<Player, String> generateTitleFunction) {
         this.generateTitleFunction = generateTitleFunction;
     }
 
+    /**
+     * Displays the same animated title to every player. The frames are advanced by a {@link TitleAnimator}.
+     *
+     * @param title The title. Cannot be null.
+     * @see TitleAnimator#animate(PersonalScoreboard, AnimatedTitle)
+     */
+    public void setAnimatedTitle(AnimatedTitle title) {
+        this.generateTitleFunction = player -> title.getFrame();
+    }
+
+    /**
+     * Update only the titles of all players. The lines stay untouched.
+     */
+    @Override
+    public void updateTitle() {
+        if (this.generateTitleFunction == null) return;
+        for (ScoreboardViewer viewer : this.viewers.values()) {
+            Player player = Bukkit.getPlayer(viewer.getPlayerUUID());
+            if (player == null) continue;
+
+            String title = this.generateTitleFunction.apply(player);
+            if (viewer.getScoreboard() != null) this.updateTitle(viewer.getScoreboard(), title);
+            else if (viewer.getLines() != null) this.backend.render(player, viewer.getRenderState(), title, viewer.getLines());
+        }
+    }
+
+    /**
+     * An immutable result of the async generation.
+     */
+    private static final class GeneratedContent {
+
+        private final UUID playerUUID;
+        private final long generation;
+        private final String title;
+        private final List<String> lines;
+
+        private GeneratedContent(UUID playerUUID, long generation, String title, List<String> lines) {
+            this.playerUUID = playerUUID;
+            this.generation = generation;
+            this.title = title;
+            this.lines = lines;
+        }
+    }
+
 }
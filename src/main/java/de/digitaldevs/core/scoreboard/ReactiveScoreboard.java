@@ -0,0 +1,181 @@
+package de.digitaldevs.core.scoreboard;
+
+import de.digitaldevs.core.exception.LineTooLongException;
+import de.digitaldevs.core.placeholder.PlaceholderTemplate;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.*;
+
+/**
+ * A {@link PersonalScoreboard} whose title and lines contain placeholders like {@code {coins}}. <br>
+ * The values of the placeholders are published with {@link #setGlobal(String, Object)} for every player or with
+ * {@link #set(Player, String, Object)} for a single player, where values of a player override global values.
+ * Publishing a value only regenerates and sends the lines which contain its placeholder, and publishing the same
+ * value again costs nothing, so the scoreboard never has to be polled. <br>
+ * The lines are always generated on the main thread, {@link #updateScoreboardAsync()} behaves like
+ * {@link #updateScoreboard()}.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ */
+public class ReactiveScoreboard extends PersonalScoreboard {
+
+    private static final int[] NO_LINES = new int[0];
+
+    private final PlaceholderTemplate title;
+    private final PlaceholderTemplate[] lines;
+    private final Map<String, int[]> dependencies = new HashMap<>();
+    private final Map<String, String> globalValues = new HashMap<>();
+    private final Map<UUID, Map<String, String>> playerValues = new HashMap<>();
+    private final StringBuilder buffer = new StringBuilder();
+
+    public ReactiveScoreboard(String title, String... lines) {
+        this(title, Arrays.asList(lines));
+    }
+
+    public ReactiveScoreboard(String title, List<String> lines) {
+        this.title = new PlaceholderTemplate(title);
+        this.lines = new PlaceholderTemplate[lines.size()];
+
+        Map<String, List<Integer>> dependencies = new HashMap<>();
+        for (int index = 0; index < lines.size(); index++) {
+            this.lines[index] = new PlaceholderTemplate(lines.get(index));
+            for (String name : this.lines[index].getPlaceholders()) {
+                dependencies.computeIfAbsent(name, key -> new ArrayList<>()).add(index);
+            }
+        }
+        dependencies.forEach((name, indices) -> this.dependencies.put(name, indices.stream().mapToInt(Integer::intValue).toArray()));
+
+        this.setGenerateTitleFunction(player -> this.render(this.title, player.getUniqueId()));
+        this.setGenerateLinesFunction(this::generateLines);
+    }
+
+    /**
+     * Publishes the value of a placeholder for every player who has no own value for it.
+     *
+     * @param name  The name of the placeholder without braces
+     * @param value The value. {@code null} removes the value.
+     * @throws LineTooLongException Thrown if a line gets longer than 64 characters
+     */
+    public void setGlobal(String name, Object value) throws LineTooLongException {
+        String text = value == null ? null : String.valueOf(value);
+        if (Objects.equals(text, text == null ? this.globalValues.remove(name) : this.globalValues.put(name, text))) return;
+        if (!this.isUsed(name)) return;
+
+        for (UUID playerUUID : new ArrayList<>(this.activePlayers)) {
+            Map<String, String> values = this.playerValues.get(playerUUID);
+            if (values != null && values.containsKey(name)) continue;
+
+            Player player = Bukkit.getPlayer(playerUUID);
+            if (player != null) this.refresh(player, name);
+        }
+    }
+
+    /**
+     * Publishes the value of a placeholder for a single player.
+     *
+     * @param player The player
+     * @param name   The name of the placeholder without braces
+     * @param value  The value. {@code null} removes the value, so the global value is used again.
+     * @throws LineTooLongException Thrown if a line gets longer than 64 characters
+     */
+    public void set(Player player, String name, Object value) throws LineTooLongException {
+        String text = value == null ? null : String.valueOf(value);
+        Map<String, String> values = this.playerValues.computeIfAbsent(player.getUniqueId(), key -> new HashMap<>());
+        if (Objects.equals(text, text == null ? values.remove(name) : values.put(name, text))) return;
+        if (this.isUsed(name)) this.refresh(player, name);
+    }
+
+    /**
+     * Gets the value of a placeholder for a player.
+     *
+     * @param player The player
+     * @param name   The name of the placeholder without braces
+     * @return The value or {@code null} if no value was published
+     */
+    public String getValue(Player player, String name) {
+        return this.resolve(player.getUniqueId(), name);
+    }
+
+    @Override
+    public void updateScoreboardAsync() throws LineTooLongException {
+        this.updateScoreboard();
+    }
+
+    @Override
+    protected boolean evictPlayer(UUID playerUUID) {
+        boolean evicted = super.evictPlayer(playerUUID);
+        return this.playerValues.remove(playerUUID) != null || evicted;
+    }
+
+    @Override
+    protected void collectTrackedPlayers(Set<UUID> players) {
+        super.collectTrackedPlayers(players);
+        players.addAll(this.playerValues.keySet());
+    }
+
+    @Override
+    public void destroy() {
+        super.destroy();
+        this.playerValues.clear();
+    }
+
+    /**
+     * Regenerates and sends the title and the lines of a player which contain a placeholder.
+     *
+     * @param player The player
+     * @param name   The name of the placeholder whose value has changed
+     */
+    private void refresh(Player player, String name) {
+        ScoreboardViewer viewer = this.getViewer(player);
+        if (viewer == null) return;
+
+        List<String> rendered = viewer.getLines();
+        if (viewer.getScoreboard() == null || rendered == null || rendered.size() != this.lines.length) {
+            this.render(player);
+            return;
+        }
+
+        if (this.title.dependsOn(name)) this.updateTitle(viewer.getScoreboard(), this.render(this.title, player.getUniqueId()));
+        int changed = 0;
+        for (int index : this.dependencies.getOrDefault(name, NO_LINES)) {
+            String line = this.render(this.lines[index], player.getUniqueId());
+            if (line.equals(rendered.get(index))) continue;
+
+            if (!this.updateLine(viewer.getScoreboard(), index, line, this.color(line))) {
+                this.render(player);
+                return;
+            }
+            changed++;
+        }
+        this.getStats().recordRender(changed);
+    }
+
+    private boolean isUsed(String name) {
+        return this.dependencies.containsKey(name) || this.title.dependsOn(name);
+    }
+
+    private List<String> generateLines(Player player) {
+        List<String> lines = new ArrayList<>(this.lines.length);
+        for (PlaceholderTemplate line : this.lines) lines.add(this.render(line, player.getUniqueId()));
+        return lines;
+    }
+
+    private String render(PlaceholderTemplate template, UUID playerUUID) {
+        if (template.getPlaceholders().isEmpty()) return template.toString();
+        this.buffer.setLength(0);
+        return template.render(name -> this.resolve(playerUUID, name), this.buffer).toString();
+    }
+
+    private String resolve(UUID playerUUID, String name) {
+        Map<String, String> values = this.playerValues.get(playerUUID);
+        if (values != null) {
+            String value = values.get(name);
+            if (value != null) return value;
+        }
+        return this.globalValues.get(name);
+    }
+
+}
@@ -0,0 +1,115 @@
+package de.digitaldevs.core.scoreboard;
+
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * The state which was rendered last on a single Bukkit scoreboard. <br>
+ * The lines are stored as an immutable snapshot, so changes to the list which was passed in are not reflected.
+ * The snapshot is a compact array of lines from the {@link LinePool#getShared() shared pool}, so lines which many
+ * viewers see are only retained once.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ */
+public class RenderState {
+
+    @Getter private String title;
+    private String[] lines;
+    private List<String> linesView;
+    private Map<String, Map<String, Integer>> scores;
+
+    protected RenderState() {
+    }
+
+    /**
+     * Gets the lines which were rendered last.
+     *
+     * @return An unmodifiable view of the lines in top-down order or {@code null} if nothing was rendered yet
+     */
+    public List<String> getLines() {
+        return this.linesView;
+    }
+
+    /**
+     * Sets the title which was rendered last.
+     *
+     * @param title The title
+     */
+    protected void setTitle(String title) {
+        this.title = LinePool.getShared().intern(title);
+    }
+
+    /**
+     * Stores a snapshot of the lines which were rendered last.
+     *
+     * @param lines The lines in top-down order. Cannot be null.
+     */
+    protected void setLines(List<String> lines) {
+        this.lines = LinePool.getShared().intern(lines);
+        this.linesView = Collections.unmodifiableList(Arrays.asList(this.lines));
+    }
+
+    /**
+     * Replaces a single line of the snapshot after it was rendered on its own. The snapshot is copied, so a list which
+     * was returned by {@link #getLines()} before keeps its lines.
+     *
+     * @param index The index of the line in top-down order
+     * @param line  The line
+     */
+    protected void setLine(int index, String line) {
+        String[] lines = this.lines.clone();
+        lines[index] = LinePool.getShared().intern(line);
+        this.lines = lines;
+        this.linesView = Collections.unmodifiableList(Arrays.asList(lines));
+    }
+
+    /**
+     * Gets the scores of an objective which were sent last, see {@link ScoreObjective}.
+     *
+     * @param objectiveName The name of the objective
+     * @return The scores by entry or {@code null} if the objective was not sent yet
+     */
+    protected Map<String, Integer> getScores(String objectiveName) {
+        return this.scores == null ? null : this.scores.get(objectiveName);
+    }
+
+    /**
+     * Starts tracking the scores of an objective.
+     *
+     * @param objectiveName The name of the objective
+     * @return The empty scores by entry
+     */
+    protected Map<String, Integer> createScores(String objectiveName) {
+        if (this.scores == null) this.scores = new HashMap<>(4);
+        Map<String, Integer> objectiveScores = new HashMap<>();
+        this.scores.put(objectiveName, objectiveScores);
+        return objectiveScores;
+    }
+
+    /**
+     * Stops tracking the scores of an objective.
+     *
+     * @param objectiveName The name of the objective
+     */
+    protected void removeScores(String objectiveName) {
+        if (this.scores != null) this.scores.remove(objectiveName);
+    }
+
+    /**
+     * Estimates how much memory this state retains. The pooled lines are accounted by the {@link LinePool}.
+     *
+     * @return The approximate size in bytes
+     */
+    public long getApproximateBytes() {
+        long bytes = 16L;
+        if (this.lines != null) bytes += 48L + 4L * this.lines.length;
+        if (this.scores != null) {
+            for (Map<String, Integer> objectiveScores : this.scores.values()) bytes += 48L + 48L * objectiveScores.size();
+        }
+        return bytes;
+    }
+
+}
@@ -0,0 +1,77 @@
+package de.digitaldevs.core.scoreboard;
+
+import org.bukkit.scoreboard.Scoreboard;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Stores the {@link RenderState} of every Bukkit scoreboard which is rendered by an {@link AbstractScoreboard}. <br>
+ * States are removed explicitly when a player leaves or the scoreboard is destroyed. Scoreboards are only referenced
+ * weakly, so states of scoreboards which are no longer in use are released even if nobody removed them.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ */
+public class RenderStateStore {
+
+    private final Map<Scoreboard, RenderState> states = new WeakHashMap<>();
+
+    /**
+     * Gets the state of a scoreboard.
+     *
+     * @param scoreboard The Bukkit scoreboard
+     * @return The state or {@code null} if nothing was rendered on the scoreboard yet
+     */
+    public RenderState get(Scoreboard scoreboard) {
+        return this.states.get(scoreboard);
+    }
+
+    /**
+     * Gets the state of a scoreboard and creates it if it does not exist yet.
+     *
+     * @param scoreboard The Bukkit scoreboard. Cannot be null.
+     * @return The state
+     */
+    protected RenderState getOrCreate(Scoreboard scoreboard) {
+        return this.states.computeIfAbsent(scoreboard, key -> new RenderState());
+    }
+
+    /**
+     * Removes the state of a scoreboard.
+     *
+     * @param scoreboard The Bukkit scoreboard
+     */
+    protected void evict(Scoreboard scoreboard) {
+        if (scoreboard != null) this.states.remove(scoreboard);
+    }
+
+    /**
+     * Removes all states.
+     */
+    protected void clear() {
+        this.states.clear();
+    }
+
+    /**
+     * Gets the amount of states which are currently retained.
+     *
+     * @return The amount of states
+     */
+    public int getRetainedCount() {
+        return this.states.size();
+    }
+
+    /**
+     * Estimates how much memory all retained states occupy.
+     *
+     * @return The approximate size in bytes
+     */
+    public long getApproximateBytes() {
+        long bytes = 0L;
+        for (RenderState state : this.states.values()) bytes += state.getApproximateBytes();
+        return bytes;
+    }
+
+}
@@ -0,0 +1,185 @@
+package de.digitaldevs.core.scoreboard;
+
+import lombok.Getter;
+import org.bukkit.ChatColor;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+
+import java.util.*;
+
+/**
+ * An objective of an {@link AbstractScoreboard} which is displayed in the tab list or below the names of players. <br>
+ * Every entity has a single score which is seen by every viewer. Changed scores are collected and sent together on the
+ * next {@link #flush()}. A score which is set to the value it already has is not sent at all, and every Bukkit scoreboard
+ * only receives the scores which differ from what it displays, see {@link RenderState}.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ * @see AbstractScoreboard#createObjective(DisplaySlot, String)
+ */
+public class ScoreObjective {
+
+    @Getter private final DisplaySlot slot;
+    @Getter private final String name;
+    @Getter private String displayName;
+    @Getter private final AbstractScoreboard scoreboard;
+    private String translatedDisplayName;
+    private final Map<String, Integer> scores = new HashMap<>();
+    private final Set<String> dirtyEntries = new LinkedHashSet<>();
+
+    protected ScoreObjective(DisplaySlot slot, String name, String displayName, AbstractScoreboard scoreboard) {
+        this.slot = slot;
+        this.name = name;
+        this.displayName = displayName;
+        this.translatedDisplayName = ChatColor.translateAlternateColorCodes('&', displayName);
+        this.scoreboard = scoreboard;
+    }
+
+    /**
+     * Changes the display name of the objective on every viewer immediately.
+     *
+     * @param displayName The display name. Color codes are translated with the ampersand character.
+     */
+    public void setDisplayName(String displayName) {
+        this.displayName = displayName;
+        this.translatedDisplayName = ChatColor.translateAlternateColorCodes('&', displayName);
+        for (Scoreboard bukkitScoreboard : this.scoreboard.getBukkitScoreboards()) {
+            Objective objective = bukkitScoreboard.getObjective(this.name);
+            if (objective != null) objective.setDisplayName(this.translatedDisplayName);
+        }
+    }
+
+    public void setScore(Player player, int score) {
+        this.setScore(player.getName(), score);
+    }
+
+    /**
+     * Sets the score of an entry. The score is sent on the next {@link #flush()}.
+     *
+     * @param entry The entry, usually the name of a player
+     * @param score The score
+     */
+    public void setScore(String entry, int score) {
+        Integer previous = this.scores.put(entry, score);
+        if (previous == null || previous != score) this.dirtyEntries.add(entry);
+    }
+
+    public void removeScore(Player player) {
+        this.removeScore(player.getName());
+    }
+
+    /**
+     * Removes the score of an entry. The removal is sent on the next {@link #flush()}.
+     *
+     * @param entry The entry
+     */
+    public void removeScore(String entry) {
+        if (this.scores.remove(entry) != null) this.dirtyEntries.add(entry);
+    }
+
+    /**
+     * Gets the current score of an entry, including changes which were not sent yet.
+     *
+     * @param entry The entry
+     * @return The score or {@code null} if the entry has no score
+     */
+    public Integer getScore(String entry) {
+        return this.scores.get(entry);
+    }
+
+    /**
+     * Gets the amount of entries whose score has changed since the last flush.
+     *
+     * @return The amount of pending entries
+     */
+    public int getPendingCount() {
+        return this.dirtyEntries.size();
+    }
+
+    /**
+     * Sends every changed score to every viewer. Each viewer only receives the scores which differ from what it displays.
+     */
+    public void flush() {
+        for (Scoreboard bukkitScoreboard : this.scoreboard.getBukkitScoreboards()) this.apply(bukkitScoreboard);
+        this.dirtyEntries.clear();
+    }
+
+    /**
+     * Brings a Bukkit scoreboard up to date. A scoreboard which does not display the objective yet gets every score,
+     * otherwise only the changed entries are compared.
+     *
+     * @param bukkitScoreboard The Bukkit scoreboard
+     */
+    protected void apply(Scoreboard bukkitScoreboard) {
+        RenderState state = this.scoreboard.getRenderStates().getOrCreate(bukkitScoreboard);
+        Map<String, Integer> displayed = state.getScores(this.name);
+        Objective objective = this.toBukkitObjective(bukkitScoreboard);
+
+        if (displayed == null) {
+            displayed = state.createScores(this.name);
+            for (Map.Entry<String, Integer> entry : this.scores.entrySet()) {
+                objective.getScore(entry.getKey()).setScore(entry.getValue());
+                displayed.put(entry.getKey(), entry.getValue());
+            }
+            return;
+        }
+
+        for (String entry : this.dirtyEntries) {
+            Integer score = this.scores.get(entry);
+            if (Objects.equals(score, displayed.get(entry))) continue;
+
+            if (score != null) {
+                objective.getScore(entry).setScore(score);
+                displayed.put(entry, score);
+                continue;
+            }
+            displayed.remove(entry);
+            bukkitScoreboard.resetScores(entry);
+            this.scoreboard.restoreScores(bukkitScoreboard, entry, this);
+        }
+    }
+
+    /**
+     * Applies the score of an entry again after all scores of the entry were reset on a Bukkit scoreboard.
+     *
+     * @param bukkitScoreboard The Bukkit scoreboard
+     * @param entry            The entry
+     */
+    protected void restore(Scoreboard bukkitScoreboard, String entry) {
+        RenderState state = this.scoreboard.getRenderStates().get(bukkitScoreboard);
+        Map<String, Integer> displayed = state == null ? null : state.getScores(this.name);
+        if (displayed == null || !displayed.containsKey(entry)) return;
+
+        Objective objective = bukkitScoreboard.getObjective(this.name);
+        if (objective != null) objective.getScore(entry).setScore(displayed.get(entry));
+    }
+
+    /**
+     * Removes the objective from every viewer.
+     */
+    protected void destroy() {
+        for (Scoreboard bukkitScoreboard : this.scoreboard.getBukkitScoreboards()) {
+            Objective objective = bukkitScoreboard.getObjective(this.name);
+            if (objective != null) objective.unregister();
+
+            RenderState state = this.scoreboard.getRenderStates().get(bukkitScoreboard);
+            if (state != null) state.removeScores(this.name);
+        }
+        this.scores.clear();
+        this.dirtyEntries.clear();
+    }
+
+    private Objective toBukkitObjective(Scoreboard bukkitScoreboard) {
+        Objective objective = bukkitScoreboard.getObjective(this.name);
+        if (objective == null) {
+            objective = bukkitScoreboard.registerNewObjective(this.name, "dummy");
+            objective.setDisplayName(this.translatedDisplayName);
+        }
+        if (objective.getDisplaySlot() != this.slot) objective.setDisplaySlot(this.slot);
+        return objective;
+    }
+
+}
@@ -0,0 +1,151 @@
+package de.digitaldevs.core.scoreboard;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Lets any thread change scoreboards safely. <br>
+ * Changes are added to a lock-free queue without blocking the calling thread. Once per tick the main thread applies
+ * all queued changes in the order they were submitted. Lists passed to this class are copied when they are submitted,
+ * so callers may reuse them afterwards.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ */
+public class ScoreboardCommandQueue {
+
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private BukkitTask task;
+
+    /**
+     * Instantiates a new {@code ScoreboardCommandQueue} and starts applying the queued changes once per tick.
+     *
+     * @param plugin The plugin which owns the task that applies the changes. Cannot be null.
+     */
+    public ScoreboardCommandQueue(Plugin plugin) {
+        this.task = Bukkit.getScheduler().runTaskTimer(plugin, this::drain, 1L, 1L);
+    }
+
+    /**
+     * Queues a change of a scoreboard. Can be called from any thread.
+     *
+     * @param scoreboard The scoreboard which should be changed. Cannot be null.
+     * @param change     The change. It is executed on the main thread. Cannot be null.
+     * @param <T>        The type of the scoreboard
+     */
+    public <T> void submit(T scoreboard, Consumer<T> change) {
+        this.commands.add(() -> change.accept(scoreboard));
+    }
+
+    /**
+     * Queues the change of the title of a global scoreboard. Can be called from any thread.
+     *
+     * @param scoreboard The scoreboard. Cannot be null.
+     * @param title      The new title
+     */
+    public void setTitle(MethodBasedGlobalScoreboard scoreboard, String title) {
+        this.submit(scoreboard, board -> board.setTitle(title));
+    }
+
+    /**
+     * Queues the change of the lines of a global scoreboard. Can be called from any thread.
+     *
+     * @param scoreboard The scoreboard. Cannot be null.
+     * @param lines      The new lines. Cannot be null.
+     */
+    public void setLines(MethodBasedGlobalScoreboard scoreboard, List<String> lines) {
+        List<String> snapshot = this.snapshot(lines);
+        this.submit(scoreboard, board -> board.setLines(snapshot));
+    }
+
+    /**
+     * Queues the change of the title of a player. Can be called from any thread.
+     * The change is skipped if the player is offline when it is applied.
+     *
+     * @param scoreboard The scoreboard. Cannot be null.
+     * @param playerUUID The UUID of the player. Cannot be null.
+     * @param title      The new title
+     */
+    public void setTitle(MethodBasedPersonalScoreboard scoreboard, UUID playerUUID, String title) {
+        this.submit(scoreboard, board -> {
+            Player player = Bukkit.getPlayer(playerUUID);
+            if (player != null) board.setTitle(player, title);
+        });
+    }
+
+    /**
+     * Queues the change of the lines of a player. Can be called from any thread.
+     * The change is skipped if the player is offline when it is applied.
+     *
+     * @param scoreboard The scoreboard. Cannot be null.
+     * @param playerUUID The UUID of the player. Cannot be null.
+     * @param lines      The new lines. Cannot be null.
+     */
+    public void setLines(MethodBasedPersonalScoreboard scoreboard, UUID playerUUID, List<String> lines) {
+        List<String> snapshot = this.snapshot(lines);
+        this.submit(scoreboard, board -> {
+            Player player = Bukkit.getPlayer(playerUUID);
+            if (player != null) board.setLines(player, snapshot);
+        });
+    }
+
+    /**
+     * Queues adding an entity to a team. Can be called from any thread.
+     *
+     * @param team The team. Cannot be null.
+     * @param uuid The UUID of the entity. Cannot be null.
+     */
+    public void addEntity(ScoreboardTeam team, UUID uuid) {
+        this.submit(team, scoreboardTeam -> scoreboardTeam.addEntity(uuid));
+    }
+
+    /**
+     * Queues removing an entity from a team. Can be called from any thread.
+     *
+     * @param team The team. Cannot be null.
+     * @param uuid The UUID of the entity. Cannot be null.
+     */
+    public void removeEntity(ScoreboardTeam team, UUID uuid) {
+        this.submit(team, scoreboardTeam -> scoreboardTeam.removeEntity(uuid));
+    }
+
+    /**
+     * Applies all queued changes in the order they were submitted. Must be called on the main thread.
+     */
+    public void drain() {
+        Runnable command;
+        while ((command = this.commands.poll()) != null) {
+            try {
+                command.run();
+            } catch (Exception exception) {
+                exception.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Stops applying changes once per tick. Changes which are still queued are applied immediately.
+     * Must be called on the main thread.
+     */
+    public void stop() {
+        if (this.task != null) this.task.cancel();
+        this.task = null;
+        this.drain();
+    }
+
+    private List<String> snapshot(List<String> lines) {
+        return Collections.unmodifiableList(Arrays.asList(lines.toArray(new String[0])));
+    }
+
+}
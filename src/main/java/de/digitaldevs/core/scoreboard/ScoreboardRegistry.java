@@ -0,0 +1,121 @@
+package de.digitaldevs.core.scoreboard;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.util.*;
+
+/**
+ * Keeps track of every live {@link AbstractScoreboard} and removes the state of players who leave the server. <br>
+ * Every scoreboard registers itself when it is created and unregisters itself when it is destroyed. After
+ * {@link #enable(Plugin)} was called, a single listener evicts the state of a quitting player from every scoreboard,
+ * so plugins do not have to call {@link AbstractScoreboard#removePlayer(org.bukkit.entity.Player)} on quit. Scoreboards
+ * which are no longer referenced are dropped automatically.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ */
+public final class ScoreboardRegistry implements Listener {
+
+    private static final Set<AbstractScoreboard> SCOREBOARDS = Collections.newSetFromMap(new WeakHashMap<>());
+    private static ScoreboardRegistry listener;
+    private static long handledQuits;
+    private static long evictions;
+
+    private ScoreboardRegistry() {
+    }
+
+    /**
+     * Registers the quit listener. Calling this method more than once has no effect.
+     *
+     * @param plugin The plugin which owns the listener
+     */
+    public static void enable(Plugin plugin) {
+        if (listener != null) return;
+        listener = new ScoreboardRegistry();
+        Bukkit.getPluginManager().registerEvents(listener, plugin);
+    }
+
+    /**
+     * Unregisters the quit listener. The scoreboards stay registered.
+     */
+    public static void disable() {
+        if (listener == null) return;
+        HandlerList.unregisterAll(listener);
+        listener = null;
+    }
+
+    /**
+     * Gets all live scoreboards.
+     *
+     * @return A copy of the registered scoreboards
+     */
+    public static Collection<AbstractScoreboard> getScoreboards() {
+        return new ArrayList<>(SCOREBOARDS);
+    }
+
+    /**
+     * Gets the amount of quits which were handled by the listener.
+     *
+     * @return The amount of quits
+     */
+    public static long getHandledQuits() {
+        return handledQuits;
+    }
+
+    /**
+     * Gets the amount of scoreboards which held state of a player when the player quit.
+     *
+     * @return The amount of evictions
+     */
+    public static long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Counts the players who are offline but whose state is still held by a scoreboard. The count should be
+     * {@code 0} while the listener is enabled. Every player is counted once per scoreboard.
+     *
+     * @return The amount of leaked players
+     */
+    public static int getLeakedPlayerCount() {
+        int leaked = 0;
+        Set<UUID> players = new HashSet<>();
+        for (AbstractScoreboard scoreboard : SCOREBOARDS) {
+            players.clear();
+            scoreboard.collectTrackedPlayers(players);
+            for (UUID playerUUID : players) {
+                if (Bukkit.getPlayer(playerUUID) == null) leaked++;
+            }
+        }
+        return leaked;
+    }
+
+    static void register(AbstractScoreboard scoreboard) {
+        SCOREBOARDS.add(scoreboard);
+    }
+
+    static void unregister(AbstractScoreboard scoreboard) {
+        SCOREBOARDS.remove(scoreboard);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        UUID playerUUID = event.getPlayer().getUniqueId();
+        handledQuits++;
+        for (AbstractScoreboard scoreboard : SCOREBOARDS) {
+            try {
+                if (scoreboard.evictPlayer(playerUUID)) evictions++;
+            } catch (Exception exception) {
+                exception.printStackTrace();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,197 @@
+package de.digitaldevs.core.scoreboard;
+
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects statistics about the updates of a single {@link AbstractScoreboard}. <br>
+ * The statistics are disabled by default. While they are disabled, every recording method returns after a single
+ * field check, so the scoreboard is not slowed down. The latency of complete updates is sorted into a histogram with
+ * the bucket bounds of {@link #getBucketBounds()}.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ */
+public class ScoreboardStats {
+
+    private static final long[] BUCKET_BOUNDS = {50_000L, 100_000L, 250_000L, 500_000L, 1_000_000L, 2_500_000L, 5_000_000L, 10_000_000L};
+
+    private final AbstractScoreboard scoreboard;
+    @Getter private boolean enabled;
+    @Getter private long updates;
+    @Getter private long totalUpdateNanos;
+    @Getter private long maxUpdateNanos;
+    @Getter private long renders;
+    @Getter private long skippedRenders;
+    @Getter private long linesChanged;
+    @Getter private long teamMutations;
+    private final long[] histogram = new long[BUCKET_BOUNDS.length + 1];
+    private BukkitTask dumpTask;
+
+    protected ScoreboardStats(AbstractScoreboard scoreboard) {
+        this.scoreboard = scoreboard;
+    }
+
+    /**
+     * Enables or disables the statistics. The collected values are kept.
+     *
+     * @param enabled {@code true} to collect statistics
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Marks the start of a complete update.
+     *
+     * @return The start time which has to be passed to {@link #recordUpdate(long)} or {@code 0} if the statistics are disabled
+     */
+    protected long startUpdate() {
+        return this.enabled ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Records the duration of a complete update.
+     *
+     * @param start The value returned by {@link #startUpdate()}
+     */
+    protected void recordUpdate(long start) {
+        if (!this.enabled || start == 0L) return;
+
+        long nanos = System.nanoTime() - start;
+        this.updates++;
+        this.totalUpdateNanos += nanos;
+        if (nanos > this.maxUpdateNanos) this.maxUpdateNanos = nanos;
+
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS.length && nanos >= BUCKET_BOUNDS[bucket]) bucket++;
+        this.histogram[bucket]++;
+    }
+
+    /**
+     * Records a render of a single sidebar.
+     *
+     * @param linesChanged The amount of lines which had to be sent. {@code 0} if the sidebar was unchanged.
+     */
+    protected void recordRender(int linesChanged) {
+        if (!this.enabled) return;
+        this.renders++;
+        if (linesChanged == 0) this.skippedRenders++;
+        this.linesChanged += linesChanged;
+    }
+
+    /**
+     * Records a change of a team which was fanned out to the viewers.
+     */
+    protected void recordTeamMutation() {
+        if (this.enabled) this.teamMutations++;
+    }
+
+    /**
+     * Gets the amount of players who are currently viewing the scoreboard.
+     *
+     * @return The amount of viewers
+     */
+    public int getViewerCount() {
+        return this.scoreboard.activePlayers.size();
+    }
+
+    /**
+     * Gets the average duration of a complete update.
+     *
+     * @return The average in milliseconds or {@code 0} if nothing was recorded yet
+     */
+    public double getAverageUpdateMillis() {
+        return this.updates == 0 ? 0D : this.totalUpdateNanos / (double) this.updates / 1_000_000D;
+    }
+
+    /**
+     * Gets the average amount of lines which had to be sent per rendered sidebar.
+     *
+     * @return The average or {@code 0} if nothing was recorded yet
+     */
+    public double getAverageLinesChanged() {
+        return this.renders == 0 ? 0D : this.linesChanged / (double) this.renders;
+    }
+
+    /**
+     * Gets the latency histogram of the complete updates. The bucket at index {@code i} counts the updates which took
+     * less than {@code getBucketBounds()[i]} nanoseconds, the last bucket counts all slower updates.
+     *
+     * @return A copy of the histogram
+     */
+    public long[] getHistogram() {
+        return this.histogram.clone();
+    }
+
+    /**
+     * Gets the upper bounds of the histogram buckets.
+     *
+     * @return A copy of the bounds in nanoseconds
+     */
+    public static long[] getBucketBounds() {
+        return BUCKET_BOUNDS.clone();
+    }
+
+    /**
+     * Resets every collected value.
+     */
+    public void reset() {
+        this.updates = 0;
+        this.totalUpdateNanos = 0;
+        this.maxUpdateNanos = 0;
+        this.renders = 0;
+        this.skippedRenders = 0;
+        this.linesChanged = 0;
+        this.teamMutations = 0;
+        for (int index = 0; index < this.histogram.length; index++) this.histogram[index] = 0;
+    }
+
+    /**
+     * Enables the statistics and logs them periodically with the logger of a plugin.
+     *
+     * @param plugin   The plugin which owns the task and whose logger is used. Cannot be null.
+     * @param interval The time between two dumps
+     * @param unit     The unit of the interval
+     */
+    public void startDump(Plugin plugin, long interval, TimeUnit unit) {
+        this.stopDump();
+        this.enabled = true;
+        long ticks = Math.max(1L, unit.toMillis(interval) / 50L);
+        this.dumpTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> plugin.getLogger().info(this.toString()), ticks, ticks);
+    }
+
+    /**
+     * Stops the periodic dump. The statistics stay enabled.
+     */
+    public void stopDump() {
+        if (this.dumpTask != null) this.dumpTask.cancel();
+        this.dumpTask = null;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(this.scoreboard.getClass().getSimpleName())
+                .append(": viewers=").append(this.getViewerCount())
+                .append(", updates=").append(this.updates)
+                .append(String.format(", avg=%.3fms, max=%.3fms", this.getAverageUpdateMillis(), this.maxUpdateNanos / 1_000_000D))
+                .append(", renders=").append(this.renders)
+                .append(", skipped=").append(this.skippedRenders)
+                .append(", linesChanged=").append(this.linesChanged)
+                .append(", teamMutations=").append(this.teamMutations)
+                .append(", histogram=[");
+        for (int index = 0; index < this.histogram.length; index++) {
+            if (index > 0) builder.append(", ");
+            builder.append(index < BUCKET_BOUNDS.length ? "<" + BUCKET_BOUNDS[index] / 1_000L + "us" : ">=" + BUCKET_BOUNDS[BUCKET_BOUNDS.length - 1] / 1_000L + "us")
+                    .append(':').append(this.histogram[index]);
+        }
+        return builder.append(']').toString();
+    }
+
+}
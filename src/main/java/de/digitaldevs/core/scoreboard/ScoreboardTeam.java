@@ -9,9 +9,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.scoreboard.Scoreboard;
 import org.bukkit.scoreboard.Team;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 
 /**
  * @author MerryChrismas
@@ -21,13 +19,19 @@ import java.util.UUID;
 public class ScoreboardTeam {
 
     @Getter private String name;
+    @Getter private String normalizedName;
     @Getter private String displayName;
-    @Getter private final List<UUID> entities = new ArrayList<>();
+    @Getter private final Set<UUID> entities = new LinkedHashSet<>();
     @Getter private final AbstractScoreboard scoreboard;
+    private String prefix;
+    private final Set<Scoreboard> syncedScoreboards = Collections.newSetFromMap(new WeakHashMap<>());
+    private TeamUpdate snapshot;
 
-    protected ScoreboardTeam(String name, String displayName,  AbstractScoreboard scoreboard) {
+    protected ScoreboardTeam(String name, String normalizedName, String displayName, AbstractScoreboard scoreboard) {
         this.name = name;
+        this.normalizedName = normalizedName;
         this.displayName = displayName;
+        this.prefix = ChatColor.translateAlternateColorCodes('&', displayName);
         this.scoreboard = scoreboard;
     }
 
@@ -35,33 +39,121 @@ public class ScoreboardTeam {
         if (name.length() > 16) {
             throw new TeamNameTooLongException("The name '" + name + "' is longer than 16 characters!");
         }
+        String normalizedName = AbstractScoreboard.normalizeTeamName(name);
+        this.scoreboard.renameTeam(this, name, normalizedName);
+        this.unregister();
         this.name = name;
+        this.normalizedName = normalizedName;
         refresh();
     }
 
     public void setDisplayName(String displayName) {
         this.displayName = displayName;
-        this.refresh();
+        this.prefix = ChatColor.translateAlternateColorCodes('&', displayName);
+        this.snapshot = null;
+        this.scoreboard.broadcastTeamUpdate(this, TeamUpdate.update(this.name, this.prefix));
     }
 
+    /**
+     * Applies the complete state of the team to every viewer of the {@link AbstractScoreboard}.
+     */
     public void refresh() {
-        if (this.scoreboard instanceof PersonalScoreboard) {
-            for (UUID uuid : this.entities) {
-                Player player = Bukkit.getPlayer(uuid);
-                if (player != null) this.refresh(player.getScoreboard());
-            }
-        } else this.refresh(((GlobalScoreboard) this.scoreboard).toBukkitScoreboard());
+        this.scoreboard.broadcastTeamUpdate(this, this.snapshot());
     }
 
+    /**
+     * Applies the complete state of the team to a Bukkit scoreboard. Entries of players who are no longer a member
+     * of the team are removed.
+     *
+     * @param scoreboard The Bukkit scoreboard
+     */
     public void refresh(Scoreboard scoreboard) {
-        Team team = this.toBukkitTeam(scoreboard);
-        if (team == null) return;
+        this.snapshot().applyTo(scoreboard);
+        this.syncedScoreboards.add(scoreboard);
+    }
+
+    /**
+     * Gets the complete state of the team. The state is computed once and shared by every viewer until the team changes.
+     *
+     * @return The state as a {@link TeamUpdate.Type#CREATE} update
+     */
+    public TeamUpdate snapshot() {
+        if (this.snapshot != null) return this.snapshot;
+
+        List<String> entries = new ArrayList<>(this.entities.size());
         for (UUID playerUUID : this.entities) {
             Player player = Bukkit.getPlayer(playerUUID);
-            if ((player != null) && !team.hasEntry(player.getName())) team.addEntry(player.getName());
+            if (player != null) entries.add(player.getName());
+        }
+        this.snapshot = TeamUpdate.create(this.name, this.prefix, entries);
+        return this.snapshot;
+    }
+
+    /**
+     * Applies the complete state of the team to a Bukkit scoreboard if it was not applied before.
+     * Every later change is propagated to the scoreboard as a single change.
+     *
+     * @param scoreboard The Bukkit scoreboard
+     */
+    protected void sync(Scoreboard scoreboard) {
+        if (!this.syncedScoreboards.contains(scoreboard)) this.refresh(scoreboard);
+    }
+
+    /**
+     * Applies a prepared update to a Bukkit scoreboard. Scoreboards which do not know the team yet get its complete
+     * state instead of the single change.
+     *
+     * @param scoreboard The Bukkit scoreboard
+     * @param update     The update
+     */
+    protected void apply(Scoreboard scoreboard, TeamUpdate update) {
+        switch (update.getType()) {
+            case CREATE:
+                update.applyTo(scoreboard);
+                this.syncedScoreboards.add(scoreboard);
+                break;
+            case REMOVE:
+                update.applyTo(scoreboard);
+                this.syncedScoreboards.remove(scoreboard);
+                break;
+            case UPDATE:
+                if (this.syncedScoreboards.contains(scoreboard)) update.applyTo(scoreboard);
+                break;
+            case ADD_ENTRIES:
+                if (this.syncedScoreboards.contains(scoreboard)) update.applyTo(scoreboard);
+                else this.refresh(scoreboard);
+                break;
+            case REMOVE_ENTRIES:
+                update.applyTo(scoreboard);
+                break;
         }
+    }
+
+    /**
+     * Adds the entry of a member to every viewer if the member is online. Offline members are added once they join.
+     *
+     * @param uuid The UUID of the member
+     */
+    protected void syncEntity(UUID uuid) {
+        this.snapshot = null;
+        Player player = Bukkit.getPlayer(uuid);
+        if (player == null) return;
+
+        this.scoreboard.broadcastTeamUpdate(this, TeamUpdate.addEntries(this.name, Collections.singletonList(player.getName())));
+    }
 
-        team.setPrefix(ChatColor.translateAlternateColorCodes('&', this.getDisplayName()));
+    /**
+     * Removes the entry of a former member from every viewer. The entry is removed even if the former member is offline.
+     *
+     * @param uuid The UUID of the former member
+     */
+    private void unsyncEntity(UUID uuid) {
+        this.snapshot = null;
+        Player player = Bukkit.getPlayer(uuid);
+        String entry = player != null ? player.getName() : Bukkit.getOfflinePlayer(uuid).getName();
+        if (entry == null) return;
+
+        this.scoreboard.broadcastTeamUpdate(this, TeamUpdate.removeEntries(this.name, Collections.singletonList(entry)));
     }
 
     public Team toBukkitTeam(Scoreboard bukkitScoreboard) {
@@ -82,10 +174,20 @@ public class ScoreboardTeam {
         this.addEntity(entity.getUniqueId());
     }
 
+    /**
+     * Adds an entity to the team. If the entity is a member of another team of the same scoreboard, it is moved to this team.
+     *
+     * @param uuid The UUID of the entity
+     */
     public void addEntity(UUID uuid) {
         if (this.entities.contains(uuid)) return;
+
+        ScoreboardTeam previousTeam = this.scoreboard.getTeam(uuid);
+        if (previousTeam != null) previousTeam.removeEntity(uuid);
+
         this.entities.add(uuid);
-        this.refresh();
+        this.scoreboard.indexEntity(uuid, this);
+        this.syncEntity(uuid);
     }
 
     public void removePlayer(Player player) {
@@ -97,28 +199,25 @@ public class ScoreboardTeam {
     }
 
     public void removeEntity(UUID uuid) {
-        this.entities.remove(uuid);
-        this.refresh();
+        if (!this.entities.remove(uuid)) return;
+        this.scoreboard.unindexEntity(uuid, this);
+        this.unsyncEntity(uuid);
     }
 
     protected void destroy() {
-        if (this.scoreboard instanceof PersonalScoreboard) {
-            for (UUID uuid : this.entities) {
-                Player player = Bukkit.getPlayer(uuid);
-
-                if (player != null) {
-                    Team team = player.getScoreboard().getTeam(this.name);
-                    if (team != null) team.unregister();
-                }
-            }
-        } else {
-            Scoreboard scoreboard = ((GlobalScoreboard) this.scoreboard).toBukkitScoreboard();
-            Team team = scoreboard.getTeam(this.name);
-            if (team != null) team.unregister();
-        }
+        this.unregister();
+    }
+
+    /**
+     * Removes the team from every viewer.
+     */
+    private void unregister() {
+        this.scoreboard.broadcastTeamUpdate(this, TeamUpdate.remove(this.name));
+        this.syncedScoreboards.clear();
+        this.snapshot = null;
     }
 
     public boolean isOnTeam(UUID uuid) {
-        return this.getEntities().contains(uuid);
+        return this.entities.contains(uuid);
     }
 }
@@ -0,0 +1,101 @@
+package de.digitaldevs.core.scoreboard;
+
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Describes the lines of a {@link HybridScoreboard} from top to bottom. <br>
+ * A line is either shared, so it is the same for every player and generated once per update, or dynamic, so it is
+ * generated for every player on its own. A {@link HybridScoreboard} copies the template when it is created, so lines
+ * which are added afterwards are not shown.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ */
+public class ScoreboardTemplate {
+
+    private final List<Supplier<String>> sharedLines = new ArrayList<>();
+    private final List<Function<Player, String>> dynamicLines = new ArrayList<>();
+
+    /**
+     * Adds a line which never changes.
+     *
+     * @param line The line. Cannot be null.
+     * @return The modified {@code ScoreboardTemplate}
+     */
+    public ScoreboardTemplate shared(@NotNull String line) {
+        return this.shared(() -> line);
+    }
+
+    /**
+     * Adds a line which is the same for every player.
+     *
+     * @param supplier Generates the line once per update. Cannot be null.
+     * @return The modified {@code ScoreboardTemplate}
+     */
+    public ScoreboardTemplate shared(@NotNull Supplier<String> supplier) {
+        this.sharedLines.add(supplier);
+        this.dynamicLines.add(null);
+        return this;
+    }
+
+    /**
+     * Adds a line which is different for every player.
+     *
+     * @param function Generates the line for a player. Cannot be null.
+     * @return The modified {@code ScoreboardTemplate}
+     */
+    public ScoreboardTemplate dynamic(@NotNull Function<Player, String> function) {
+        this.sharedLines.add(null);
+        this.dynamicLines.add(function);
+        return this;
+    }
+
+    /**
+     * Copies the template. Later changes to this template do not affect the copy.
+     *
+     * @return The copy
+     */
+    protected ScoreboardTemplate copy() {
+        ScoreboardTemplate copy = new ScoreboardTemplate();
+        copy.sharedLines.addAll(this.sharedLines);
+        copy.dynamicLines.addAll(this.dynamicLines);
+        return copy;
+    }
+
+    /**
+     * Gets the amount of lines.
+     *
+     * @return The amount of lines
+     */
+    public int size() {
+        return this.sharedLines.size();
+    }
+
+    /**
+     * Gets the supplier of a shared line.
+     *
+     * @param index The index of the line
+     * @return The supplier or {@code null} if the line is dynamic
+     */
+    protected Supplier<String> getSharedLine(int index) {
+        return this.sharedLines.get(index);
+    }
+
+    /**
+     * Gets the function of a dynamic line.
+     *
+     * @param index The index of the line
+     * @return The function or {@code null} if the line is shared
+     */
+    protected Function<Player, String> getDynamicLine(int index) {
+        return this.dynamicLines.get(index);
+    }
+
+}
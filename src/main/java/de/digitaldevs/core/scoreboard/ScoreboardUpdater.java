@@ -0,0 +1,227 @@
+package de.digitaldevs.core.scoreboard;
+
+import lombok.Getter;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Updates scoreboards periodically and adapts the update rate to the load of the server. <br>
+ * The updater measures the duration of every server tick and the cost of every update. While the average tick takes
+ * longer than the thresholds, scoreboards with a lower {@link Priority} are updated less often. As soon as the server
+ * has recovered, all scoreboards are updated at their nominal rate again.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ */
+public class ScoreboardUpdater {
+
+    private static final double SMOOTHING = 0.05D;
+    private static final double NOMINAL_TICK_MILLIS = 50.0D;
+
+    private final Plugin plugin;
+    private final Map<AbstractScoreboard, Entry> entries = new LinkedHashMap<>();
+    private BukkitTask task;
+    private long tick;
+    private long lastTickNanos;
+
+    @Getter private double averageTickMillis = NOMINAL_TICK_MILLIS;
+    @Getter private double averageUpdateMillisPerTick;
+    @Getter private Pressure pressure = Pressure.NONE;
+    private double moderateTickMillis = 55.0D;
+    private double severeTickMillis = 70.0D;
+
+    /**
+     * Instantiates a new {@code ScoreboardUpdater}.
+     *
+     * @param plugin The plugin which owns the update task. Cannot be null.
+     */
+    public ScoreboardUpdater(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Updates a scoreboard periodically.
+     *
+     * @param scoreboard The scoreboard. Cannot be null.
+     * @param interval   The nominal amount of ticks between two updates. Must be at least 1.
+     * @param priority   Defines how early the scoreboard is slowed down under load. Cannot be null.
+     */
+    public void register(AbstractScoreboard scoreboard, int interval, Priority priority) {
+        if (scoreboard.getUpdater() != null && scoreboard.getUpdater() != this) scoreboard.getUpdater().unregister(scoreboard);
+        scoreboard.setUpdater(this);
+        this.entries.put(scoreboard, new Entry(Math.max(1, interval), priority, this.tick));
+        if (this.task == null) {
+            this.lastTickNanos = System.nanoTime();
+            this.task = Bukkit.getScheduler().runTaskTimer(this.plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stops updating a scoreboard. Destroying a scoreboard stops updating it as well.
+     *
+     * @param scoreboard The scoreboard
+     */
+    public void unregister(AbstractScoreboard scoreboard) {
+        this.entries.remove(scoreboard);
+        if (scoreboard.getUpdater() == this) scoreboard.setUpdater(null);
+        if (this.entries.isEmpty()) this.stop();
+    }
+
+    /**
+     * Changes the priority of a registered scoreboard.
+     *
+     * @param scoreboard The scoreboard
+     * @param priority   The new priority. Cannot be null.
+     */
+    public void setPriority(AbstractScoreboard scoreboard, Priority priority) {
+        Entry entry = this.entries.get(scoreboard);
+        if (entry != null) entry.priority = priority;
+    }
+
+    /**
+     * Defines from which average tick duration on the server counts as under load.
+     *
+     * @param moderateTickMillis The duration in milliseconds from which {@link Priority#LOW} scoreboards are slowed down
+     * @param severeTickMillis   The duration in milliseconds from which {@link Priority#NORMAL} scoreboards are slowed down as well
+     */
+    public void setThresholds(double moderateTickMillis, double severeTickMillis) {
+        this.moderateTickMillis = moderateTickMillis;
+        this.severeTickMillis = Math.max(moderateTickMillis, severeTickMillis);
+    }
+
+    /**
+     * Gets the average duration of a single update of a scoreboard.
+     *
+     * @param scoreboard The scoreboard
+     * @return The duration in milliseconds or {@code 0} if the scoreboard is not registered or was not updated yet
+     */
+    public double getAverageUpdateMillis(AbstractScoreboard scoreboard) {
+        Entry entry = this.entries.get(scoreboard);
+        return entry == null ? 0.0D : entry.averageUpdateMillis;
+    }
+
+    /**
+     * Gets the amount of ticks between two updates of a scoreboard under the current load.
+     *
+     * @param scoreboard The scoreboard
+     * @return The amount of ticks or {@code 0} if the scoreboard is not registered
+     */
+    public int getCurrentInterval(AbstractScoreboard scoreboard) {
+        Entry entry = this.entries.get(scoreboard);
+        return entry == null ? 0 : entry.interval * this.pressure.slowdown(entry.priority);
+    }
+
+    /**
+     * Stops the update task and forgets all scoreboards.
+     */
+    public void stop() {
+        if (this.task != null) this.task.cancel();
+        this.task = null;
+        for (AbstractScoreboard scoreboard : this.entries.keySet()) {
+            if (scoreboard.getUpdater() == this) scoreboard.setUpdater(null);
+        }
+        this.entries.clear();
+    }
+
+    private void tick() {
+        long now = System.nanoTime();
+        this.averageTickMillis += SMOOTHING * ((now - this.lastTickNanos) / 1_000_000.0D - this.averageTickMillis);
+        this.lastTickNanos = now;
+        this.tick++;
+
+        if (this.averageTickMillis >= this.severeTickMillis) this.pressure = Pressure.SEVERE;
+        else if (this.averageTickMillis >= this.moderateTickMillis) this.pressure = Pressure.MODERATE;
+        else if (this.averageTickMillis <= NOMINAL_TICK_MILLIS + 1.0D) this.pressure = Pressure.NONE;
+
+        long updateNanos = 0L;
+        for (Map.Entry<AbstractScoreboard, Entry> mapEntry : new ArrayList<>(this.entries.entrySet())) {
+            Entry entry = mapEntry.getValue();
+            if (this.entries.get(mapEntry.getKey()) != entry) continue;
+            if (this.tick < entry.nextUpdate) continue;
+            entry.nextUpdate = this.tick + (long) entry.interval * this.pressure.slowdown(entry.priority);
+
+            long start = System.nanoTime();
+            try {
+                mapEntry.getKey().updateScoreboard();
+            } catch (Exception exception) {
+                exception.printStackTrace();
+            }
+            long duration = System.nanoTime() - start;
+            updateNanos += duration;
+            entry.averageUpdateMillis += SMOOTHING * (duration / 1_000_000.0D - entry.averageUpdateMillis);
+        }
+        this.averageUpdateMillisPerTick += SMOOTHING * (updateNanos / 1_000_000.0D - this.averageUpdateMillisPerTick);
+    }
+
+    /**
+     * Defines how early a scoreboard is slowed down when the server is under load.
+     */
+    public enum Priority {
+
+        /**
+         * The scoreboard is always updated at its nominal rate.
+         */
+        HIGH,
+
+        /**
+         * The scoreboard is slowed down when the server is under severe load.
+         */
+        NORMAL,
+
+        /**
+         * The scoreboard is slowed down as soon as the server is under load.
+         */
+        LOW
+
+    }
+
+    /**
+     * The load of the server as seen by the updater.
+     */
+    public enum Pressure {
+
+        NONE(1, 1),
+        MODERATE(1, 2),
+        SEVERE(2, 4);
+
+        private final int normalSlowdown;
+        private final int lowSlowdown;
+
+        Pressure(int normalSlowdown, int lowSlowdown) {
+            this.normalSlowdown = normalSlowdown;
+            this.lowSlowdown = lowSlowdown;
+        }
+
+        private int slowdown(Priority priority) {
+            switch (priority) {
+                case NORMAL:
+                    return this.normalSlowdown;
+                case LOW:
+                    return this.lowSlowdown;
+                default:
+                    return 1;
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final int interval;
+        private Priority priority;
+        private long nextUpdate;
+        private double averageUpdateMillis;
+
+        private Entry(int interval, Priority priority, long nextUpdate) {
+            this.interval = interval;
+            this.priority = priority;
+            this.nextUpdate = nextUpdate;
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package de.digitaldevs.core.scoreboard;
+
+import lombok.Getter;
+import org.bukkit.scoreboard.Scoreboard;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Holds the state of a single player who is viewing a {@link PersonalScoreboard}.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ */
+public class ScoreboardViewer {
+
+    @Getter private final UUID playerUUID;
+    @Getter private final Scoreboard scoreboard;
+    @Getter private final RenderState renderState;
+    private Set<String> knownTeams;
+
+    protected ScoreboardViewer(UUID playerUUID, Scoreboard scoreboard, RenderState renderState) {
+        this.playerUUID = playerUUID;
+        this.scoreboard = scoreboard;
+        this.renderState = renderState;
+    }
+
+    /**
+     * Gets the title which was rendered last.
+     *
+     * @return The title or {@code null} if nothing was rendered yet
+     */
+    public String getTitle() {
+        return this.renderState.getTitle();
+    }
+
+    /**
+     * Gets the lines which were rendered last.
+     *
+     * @return An unmodifiable list of the lines in top-down order or {@code null} if nothing was rendered yet
+     */
+    public List<String> getLines() {
+        return this.renderState.getLines();
+    }
+
+    /**
+     * Gets the names of the teams which were sent to a viewer of a {@link SidebarBackend}.
+     *
+     * @return The modifiable set of team names
+     */
+    protected Set<String> getKnownTeams() {
+        if (this.knownTeams == null) this.knownTeams = new HashSet<>();
+        return this.knownTeams;
+    }
+
+}
@@ -0,0 +1,57 @@
+package de.digitaldevs.core.scoreboard;
+
+import de.digitaldevs.core.exception.LineTooLongException;
+import org.bukkit.entity.Player;
+
+import java.util.List;
+
+/**
+ * Displays the sidebar of a {@link PersonalScoreboard} without a Bukkit scoreboard per player. <br>
+ * The backend gets the {@link RenderState} of every viewer and has to keep it up to date with what the viewer sees.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ * @see PersonalScoreboard#setBackend(SidebarBackend)
+ */
+public interface SidebarBackend {
+
+    /**
+     * Shows an empty sidebar to a player.
+     *
+     * @param player The player
+     */
+    void show(Player player);
+
+    /**
+     * Brings the sidebar of a player to a new state.
+     *
+     * @param player The player
+     * @param state  The state which is currently displayed to the player
+     * @param title  The new title. Can be null.
+     * @param lines  The new lines in top-down order
+     * @return The amount of lines which had to be sent, {@code 0} if the lines were unchanged
+     * @throws LineTooLongException If a line is over 64 characters or longer than the backend supports
+     */
+    int render(Player player, RenderState state, String title, List<String> lines) throws LineTooLongException;
+
+    /**
+     * Removes the sidebar of a player.
+     *
+     * @param player The player
+     * @param state  The state which is currently displayed to the player
+     */
+    void hide(Player player, RenderState state);
+
+    /**
+     * Applies a change of a nametag team to a player. The same update is passed for every viewer, so a backend can
+     * prepare its packet once, see {@link TeamUpdate#setPreparedPacket(Object)}. <br>
+     * Backends which do not display teams can ignore the update.
+     *
+     * @param player The player
+     * @param update The prepared update
+     */
+    default void updateTeam(Player player, TeamUpdate update) {
+    }
+
+}
@@ -0,0 +1,106 @@
+package de.digitaldevs.core.scoreboard;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Computes the changes which are needed to turn the previously rendered lines of a sidebar into new lines. <br>
+ * Every line is bound to a slot which is identified by its score. The bottom line always has the score {@code 1},
+ * so lines which are added or removed at the top of the sidebar do not move any other line.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ */
+public final class SidebarDiff {
+
+    private SidebarDiff() {
+    }
+
+    /**
+     * Compares two states of a sidebar line by line.
+     *
+     * @param previous The lines which are currently displayed in top-down order. Can be null if nothing was rendered yet.
+     * @param lines    The lines which should be displayed in top-down order. Cannot be null.
+     * @return The changes ordered by their score. The list is empty if both states are equal.
+     */
+    public static List<Change> compute(List<String> previous, List<String> lines) {
+        int previousSize = previous == null ? 0 : previous.size();
+        int size = lines.size();
+        if (previousSize == 0 && size == 0) return Collections.emptyList();
+
+        List<Change> changes = new ArrayList<>();
+        for (int score = 1; score <= Math.max(previousSize, size); score++) {
+            if (score > size) {
+                changes.add(new Change(Type.REMOVE, score, null));
+                continue;
+            }
+
+            String line = lines.get(size - score);
+            if (score > previousSize) {
+                changes.add(new Change(Type.INSERT, score, line));
+            } else if (!line.equals(previous.get(previousSize - score))) {
+                changes.add(new Change(Type.UPDATE, score, line));
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Checks whether two states of a sidebar are equal without allocating anything.
+     *
+     * @param previous The lines which are currently displayed. Can be null if nothing was rendered yet.
+     * @param lines    The lines which should be displayed. Cannot be null.
+     * @return {@code true} if nothing has to be changed
+     */
+    public static boolean isUnchanged(List<String> previous, List<String> lines) {
+        if (previous == null) return false;
+        if (previous.size() != lines.size()) return false;
+        for (int index = 0; index < lines.size(); index++) {
+            if (!lines.get(index).equals(previous.get(index))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * The kind of a change of a single sidebar slot.
+     */
+    public enum Type {
+
+        /**
+         * The slot did not exist before and has to be created.
+         */
+        INSERT,
+
+        /**
+         * The slot exists, but its content has changed.
+         */
+        UPDATE,
+
+        /**
+         * The slot is no longer needed and has to be removed.
+         */
+        REMOVE
+
+    }
+
+    /**
+     * A single change of a sidebar slot.
+     */
+    public static final class Change {
+
+        @Getter private final Type type;
+        @Getter private final int score;
+        @Getter private final String line;
+
+        private Change(Type type, int score, String line) {
+            this.type = type;
+            this.score = score;
+            this.line = line;
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package de.digitaldevs.core.scoreboard;
+
+import org.bukkit.ChatColor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Holds the entries and team names of the sidebar slots. Both are computed once when the class is loaded. <br>
+ * Every entry is a unique combination of two color codes. This is done to ensure that...
+ * 1. Duplicate lines can be created
+ * 2. The content of a scoreboard line is stored in the team prefix + suffix, rather than the entry itself
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ */
+public final class SidebarEntries {
+
+    private static final String[] ENTRIES;
+    private static final String[] TEAM_NAMES;
+
+    static {
+        Set<String> entries = new LinkedHashSet<>();
+        for (ChatColor color : ChatColor.values()) {
+            if (color.isFormat()) continue;
+            for (ChatColor secondColor : ChatColor.values()) {
+                if (secondColor.isFormat() || color == secondColor) continue;
+                entries.add(color + " " + secondColor);
+            }
+        }
+        ENTRIES = entries.toArray(new String[0]);
+
+        List<String> teamNames = new ArrayList<>();
+        for (int score = 0; score < ENTRIES.length; score++) teamNames.add("line" + score);
+        TEAM_NAMES = teamNames.toArray(new String[0]);
+    }
+
+    private SidebarEntries() {
+    }
+
+    /**
+     * Gets the entry of a sidebar slot.
+     *
+     * @param score The score of the slot
+     * @return The entry
+     * @throws IndexOutOfBoundsException If there are not enough unique entries for the score
+     */
+    public static String entry(int score) {
+        return ENTRIES[score];
+    }
+
+    /**
+     * Gets the name of the team which holds the content of a sidebar slot.
+     *
+     * @param score The score of the slot
+     * @return The team name
+     * @throws IndexOutOfBoundsException If there are not enough unique entries for the score
+     */
+    public static String teamName(int score) {
+        return TEAM_NAMES[score];
+    }
+
+}
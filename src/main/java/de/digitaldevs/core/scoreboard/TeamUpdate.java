@@ -0,0 +1,191 @@
+package de.digitaldevs.core.scoreboard;
+
+import lombok.Getter;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+import java.util.*;
+
+/**
+ * A single change of a {@link ScoreboardTeam} which is prepared once and then applied to every viewer. <br>
+ * The names of the entries are resolved and the prefix is translated before the update is created, so fanning it out
+ * to many scoreboards does not repeat any of this work. A {@link SidebarBackend} can attach the packet it built for the
+ * update, so the same packet is sent to all of its viewers.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ */
+public class TeamUpdate {
+
+    @Getter private final Type type;
+    @Getter private final String teamName;
+    @Getter private final String prefix;
+    @Getter private final Collection<String> entries;
+    private Object preparedPacket;
+    private TeamUpdate removal;
+
+    private TeamUpdate(Type type, String teamName, String prefix, Collection<String> entries) {
+        this.type = type;
+        this.teamName = teamName;
+        this.prefix = prefix;
+        this.entries = entries;
+    }
+
+    /**
+     * Creates the complete state of a team.
+     *
+     * @param teamName The name of the team
+     * @param prefix   The translated prefix
+     * @param entries  The names of all entries
+     * @return The update
+     */
+    public static TeamUpdate create(String teamName, String prefix, Collection<String> entries) {
+        return new TeamUpdate(Type.CREATE, teamName, prefix, Collections.unmodifiableSet(new LinkedHashSet<>(entries)));
+    }
+
+    /**
+     * Creates the removal of a team.
+     *
+     * @param teamName The name of the team
+     * @return The update
+     */
+    public static TeamUpdate remove(String teamName) {
+        return new TeamUpdate(Type.REMOVE, teamName, null, Collections.emptySet());
+    }
+
+    /**
+     * Creates a change of the prefix of a team.
+     *
+     * @param teamName The name of the team
+     * @param prefix   The translated prefix
+     * @return The update
+     */
+    public static TeamUpdate update(String teamName, String prefix) {
+        return new TeamUpdate(Type.UPDATE, teamName, prefix, Collections.emptySet());
+    }
+
+    /**
+     * Creates the addition of entries to a team.
+     *
+     * @param teamName The name of the team
+     * @param entries  The names of the new entries
+     * @return The update
+     */
+    public static TeamUpdate addEntries(String teamName, Collection<String> entries) {
+        return new TeamUpdate(Type.ADD_ENTRIES, teamName, null, Collections.unmodifiableCollection(new ArrayList<>(entries)));
+    }
+
+    /**
+     * Creates the removal of entries from a team.
+     *
+     * @param teamName The name of the team
+     * @param entries  The names of the former entries
+     * @return The update
+     */
+    public static TeamUpdate removeEntries(String teamName, Collection<String> entries) {
+        return new TeamUpdate(Type.REMOVE_ENTRIES, teamName, null, Collections.unmodifiableCollection(new ArrayList<>(entries)));
+    }
+
+    /**
+     * Applies the update to a Bukkit scoreboard. A {@link Type#CREATE} update also removes every entry which is not part
+     * of the team anymore.
+     *
+     * @param scoreboard The Bukkit scoreboard
+     */
+    public void applyTo(Scoreboard scoreboard) {
+        Team team = scoreboard.getTeam(this.teamName);
+        switch (this.type) {
+            case CREATE:
+                if (team == null) team = scoreboard.registerNewTeam(this.teamName);
+                for (String entry : new ArrayList<>(team.getEntries())) {
+                    if (!this.entries.contains(entry)) team.removeEntry(entry);
+                }
+                for (String entry : this.entries) {
+                    if (!team.hasEntry(entry)) team.addEntry(entry);
+                }
+                if (!this.prefix.equals(team.getPrefix())) team.setPrefix(this.prefix);
+                break;
+            case REMOVE:
+                if (team != null) team.unregister();
+                break;
+            case UPDATE:
+                if (team != null) team.setPrefix(this.prefix);
+                break;
+            case ADD_ENTRIES:
+                if (team == null) team = scoreboard.registerNewTeam(this.teamName);
+                for (String entry : this.entries) {
+                    if (!team.hasEntry(entry)) team.addEntry(entry);
+                }
+                break;
+            case REMOVE_ENTRIES:
+                if (team == null) return;
+                for (String entry : this.entries) {
+                    if (team.hasEntry(entry)) team.removeEntry(entry);
+                }
+                break;
+        }
+    }
+
+    /**
+     * Gets the removal of the team of this update. The removal is created once and shared by every viewer which
+     * already knows the team before it receives a {@link Type#CREATE} update.
+     *
+     * @return The removal
+     */
+    protected TeamUpdate getRemoval() {
+        if (this.removal == null) this.removal = remove(this.teamName);
+        return this.removal;
+    }
+
+    /**
+     * Gets the packet a backend built for this update.
+     *
+     * @return The packet or {@code null} if no packet was built yet
+     */
+    protected Object getPreparedPacket() {
+        return this.preparedPacket;
+    }
+
+    /**
+     * Attaches the packet a backend built for this update, so it can be sent to every viewer without building it again.
+     *
+     * @param preparedPacket The packet
+     */
+    protected void setPreparedPacket(Object preparedPacket) {
+        this.preparedPacket = preparedPacket;
+    }
+
+    /**
+     * The kind of a team update. The order matches the modes of the team packet.
+     */
+    public enum Type {
+
+        /**
+         * The complete state of the team.
+         */
+        CREATE,
+
+        /**
+         * The team is removed.
+         */
+        REMOVE,
+
+        /**
+         * The prefix of the team has changed.
+         */
+        UPDATE,
+
+        /**
+         * Entries were added to the team.
+         */
+        ADD_ENTRIES,
+
+        /**
+         * Entries were removed from the team.
+         */
+        REMOVE_ENTRIES
+
+    }
+
+}
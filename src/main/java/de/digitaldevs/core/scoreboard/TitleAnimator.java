@@ -0,0 +1,94 @@
+package de.digitaldevs.core.scoreboard;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.*;
+
+/**
+ * Advances all {@link AnimatedTitle}s of a plugin with a single task. <br>
+ * Every title is advanced once per tick, no matter how many scoreboards display it. Only when the frame of a title
+ * has changed, the titles of the scoreboards which display it are updated.
+ *
+ * @author MerryChrismas
+ * @author <a href='https://digitaldevs.de'>DigitalDevs.de</a>
+ * @version 1.0.0
+ */
+public class TitleAnimator {
+
+    private final Plugin plugin;
+    private final Map<AnimatedTitle, Set<AbstractScoreboard>> scoreboards = new LinkedHashMap<>();
+    private BukkitTask task;
+
+    /**
+     * Instantiates a new {@code TitleAnimator}.
+     *
+     * @param plugin The plugin which owns the animation task. Cannot be null.
+     */
+    public TitleAnimator(Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Animates the title of a global scoreboard.
+     *
+     * @param scoreboard The scoreboard. Cannot be null.
+     * @param title      The title which should be displayed. Cannot be null.
+     */
+    public void animate(GlobalScoreboard scoreboard, AnimatedTitle title) {
+        scoreboard.setAnimatedTitle(title);
+        this.register(scoreboard, title);
+    }
+
+    /**
+     * Animates the title of a personal scoreboard. Every player sees the same frame.
+     *
+     * @param scoreboard The scoreboard. Cannot be null.
+     * @param title      The title which should be displayed. Cannot be null.
+     */
+    public void animate(PersonalScoreboard scoreboard, AnimatedTitle title) {
+        scoreboard.setAnimatedTitle(title);
+        this.register(scoreboard, title);
+    }
+
+    /**
+     * Stops animating the title of a scoreboard. The current frame stays visible.
+     *
+     * @param scoreboard The scoreboard
+     */
+    public void stopAnimating(AbstractScoreboard scoreboard) {
+        this.scoreboards.values().removeIf(animated -> animated.remove(scoreboard) && animated.isEmpty());
+        if (scoreboard.getTitleAnimator() == this) scoreboard.setTitleAnimator(null);
+        if (this.scoreboards.isEmpty()) this.stop();
+    }
+
+    /**
+     * Stops the animation task and forgets all titles.
+     */
+    public void stop() {
+        if (this.task != null) this.task.cancel();
+        this.task = null;
+        for (Set<AbstractScoreboard> animated : this.scoreboards.values()) {
+            for (AbstractScoreboard scoreboard : animated) {
+                if (scoreboard.getTitleAnimator() == this) scoreboard.setTitleAnimator(null);
+            }
+        }
+        this.scoreboards.clear();
+    }
+
+    private void register(AbstractScoreboard scoreboard, AnimatedTitle title) {
+        if (scoreboard.getTitleAnimator() != null) scoreboard.getTitleAnimator().stopAnimating(scoreboard);
+        scoreboard.setTitleAnimator(this);
+        this.scoreboards.computeIfAbsent(title, key -> new LinkedHashSet<>()).add(scoreboard);
+        if (this.task == null) this.task = Bukkit.getScheduler().runTaskTimer(this.plugin, this::tick, 1L, 1L);
+    }
+
+    private void tick() {
+        for (Map.Entry<AnimatedTitle, Set<AbstractScoreboard>> entry : this.scoreboards.entrySet()) {
+            if (!entry.getKey().tick()) continue;
+            for (AbstractScoreboard scoreboard : entry.getValue()) scoreboard.updateTitle();
+        }
+    }
+
+}